@@ -0,0 +1,76 @@
+package subway.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import subway.domain.Distance;
+import subway.domain.Subway;
+import subway.domain.path.Path;
+import subway.domain.path.PathFinder;
+import subway.domain.path.PathFinderType;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AllocationBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+    private static final int MAXIMUM_DISTANCE = 100;
+
+    @Param({"10", "50"})
+    private int lines;
+
+    @Param({"20", "200"})
+    private int stationsPerLine;
+
+    @Param({"JGRAPHT", "CSR", "ALL_PAIRS"})
+    private PathFinderType engine;
+
+    private PathFinder pathFinder;
+    private List<String[]> queries;
+    private final int[] distances = new int[QUERY_COUNT];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        final Subway subway = BenchmarkNetwork.create(lines, stationsPerLine, 0.2, 1L);
+        pathFinder = engine.create(subway);
+        queries = BenchmarkNetwork.stationPairs(subway, QUERY_COUNT, 2L);
+        final Random random = new Random(3L);
+        for (int index = 0; index < QUERY_COUNT; index++) {
+            distances[index] = 1 + random.nextInt(MAXIMUM_DISTANCE);
+        }
+    }
+
+    @Benchmark
+    public Path find() {
+        final String[] query = queries.get(cursor++ & (QUERY_COUNT - 1));
+        return pathFinder.find(query[0], query[1]);
+    }
+
+    @Benchmark
+    public Distance constructDistance() {
+        final int index = cursor++ & (QUERY_COUNT - 1);
+        return new Distance(distances[index]).add(new Distance(distances[(index + 1) & (QUERY_COUNT - 1)]));
+    }
+
+    @Benchmark
+    public Distance cachedDistance() {
+        final int index = cursor++ & (QUERY_COUNT - 1);
+        return Distance.valueOf(distances[index]).add(Distance.valueOf(distances[(index + 1) & (QUERY_COUNT - 1)]));
+    }
+}
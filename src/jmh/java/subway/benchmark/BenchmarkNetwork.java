@@ -0,0 +1,58 @@
+package subway.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.fixture.SubwayNetworkGenerator;
+import subway.fixture.SubwayNetworkGenerator.DistanceDistribution;
+
+public final class BenchmarkNetwork {
+
+    private static final DistanceDistribution DISTANCE_DISTRIBUTION = DistanceDistribution.uniform(2, 10);
+
+    private BenchmarkNetwork() {
+    }
+
+    public static Subway create(
+            final int lineCount,
+            final int stationsPerLine,
+            final double transferDensity,
+            final long seed
+    ) {
+        return new SubwayNetworkGenerator(seed, lineCount, stationsPerLine, transferDensity, DISTANCE_DISTRIBUTION)
+                .generate();
+    }
+
+    public static List<String[]> stationPairs(final Subway subway, final int count, final long seed) {
+        final List<String> stationNames = new ArrayList<>();
+        final Set<String> seen = new HashSet<>();
+        for (Line line : subway.getLines()) {
+            for (Section section : line.getSections()) {
+                addIfAbsent(stationNames, seen, section.getStart());
+                addIfAbsent(stationNames, seen, section.getEnd());
+            }
+        }
+        final Random random = new Random(seed);
+        final List<String[]> pairs = new ArrayList<>();
+        while (pairs.size() < count) {
+            final String start = stationNames.get(random.nextInt(stationNames.size()));
+            final String end = stationNames.get(random.nextInt(stationNames.size()));
+            if (!start.equals(end)) {
+                pairs.add(new String[]{start, end});
+            }
+        }
+        return pairs;
+    }
+
+    private static void addIfAbsent(final List<String> stationNames, final Set<String> seen, final Station station) {
+        if (seen.add(station.getName())) {
+            stationNames.add(station.getName());
+        }
+    }
+}
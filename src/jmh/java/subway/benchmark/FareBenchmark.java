@@ -0,0 +1,45 @@
+package subway.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import subway.domain.fare.DistanceFarePolicy;
+import subway.domain.fare.FarePolicy;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FareBenchmark {
+
+    private static final int DISTANCE_COUNT = 1024;
+    private static final int MAXIMUM_DISTANCE = 120;
+
+    private final FarePolicy farePolicy = new DistanceFarePolicy();
+    private final int[] distances = new int[DISTANCE_COUNT];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(1L);
+        for (int index = 0; index < DISTANCE_COUNT; index++) {
+            distances[index] = 1 + random.nextInt(MAXIMUM_DISTANCE);
+        }
+    }
+
+    @Benchmark
+    public int calculate() {
+        return farePolicy.calculate(distances[cursor++ & (DISTANCE_COUNT - 1)]);
+    }
+}
@@ -0,0 +1,59 @@
+package subway.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import subway.domain.Direction;
+import subway.domain.Distance;
+import subway.domain.Line;
+import subway.domain.Station;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LineBenchmark {
+
+    private static final Station ADDITIONAL = new Station("추가역");
+    private static final Distance ONE = new Distance(1);
+
+    @Param({"20", "200", "2000"})
+    private int stationsPerLine;
+
+    @Param({"0.1"})
+    private double transferDensity;
+
+    private Line line;
+    private Station base;
+
+    @Setup
+    public void setUp() {
+        line = BenchmarkNetwork.create(1, stationsPerLine, transferDensity, 1L).getLines().get(0);
+        final List<Station> stations = line.findAllStation();
+        base = stations.get(stations.size() / 2);
+    }
+
+    @Benchmark
+    public Line addAndRemove() {
+        line.add(base, ADDITIONAL, ONE, Direction.RIGHT);
+        line.remove(ADDITIONAL);
+        return line;
+    }
+
+    @Benchmark
+    public List<Station> findAllStation() {
+        return line.findAllStation();
+    }
+}
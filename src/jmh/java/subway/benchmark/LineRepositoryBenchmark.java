@@ -0,0 +1,74 @@
+package subway.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import subway.dao.LineDao;
+import subway.dao.SectionDao;
+import subway.dao.StationDao;
+import subway.domain.Line;
+import subway.repository.LineRepository;
+import subway.repository.StationRepository;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LineRepositoryBenchmark {
+
+    @Param({"10", "50"})
+    private int lines;
+
+    @Param({"20", "200", "500"})
+    private int stationsPerLine;
+
+    @Param({"0.1"})
+    private double transferDensity;
+
+    private LineRepository lineRepository;
+    private Long lineId;
+
+    @Setup
+    public void setUp() {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:benchmark-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        lineRepository = new LineRepository(
+                new LineDao(jdbcTemplate),
+                new SectionDao(jdbcTemplate),
+                new StationRepository(new StationDao(jdbcTemplate)),
+                event -> {
+                }
+        );
+        final List<Line> network = BenchmarkNetwork.create(lines, stationsPerLine, transferDensity, 1L).getLines();
+        lineRepository.saveAll(network);
+        lineId = lineRepository.findIdByName(network.get(network.size() / 2).getName());
+    }
+
+    @Benchmark
+    public List<Line> findAll() {
+        return lineRepository.findAll();
+    }
+
+    @Benchmark
+    public Line findById() {
+        return lineRepository.findById(lineId);
+    }
+}
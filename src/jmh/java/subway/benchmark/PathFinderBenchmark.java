@@ -0,0 +1,65 @@
+package subway.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import subway.domain.Subway;
+import subway.domain.path.Path;
+import subway.domain.path.PathFinder;
+import subway.domain.path.PathFinderType;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PathFinderBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"10", "50"})
+    private int lines;
+
+    @Param({"20", "200"})
+    private int stationsPerLine;
+
+    @Param({"0.1", "0.3"})
+    private double transferDensity;
+
+    @Param({"JGRAPHT", "CSR", "BIDIRECTIONAL", "CONTRACTION_HIERARCHY", "ALL_PAIRS"})
+    private PathFinderType engine;
+
+    private Subway subway;
+    private PathFinder pathFinder;
+    private List<String[]> queries;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        subway = BenchmarkNetwork.create(lines, stationsPerLine, transferDensity, 1L);
+        pathFinder = engine.create(subway);
+        queries = BenchmarkNetwork.stationPairs(subway, QUERY_COUNT, 2L);
+    }
+
+    @Benchmark
+    public Path find() {
+        final String[] query = queries.get(cursor++ & (QUERY_COUNT - 1));
+        return pathFinder.find(query[0], query[1]);
+    }
+
+    @Benchmark
+    public PathFinder build() {
+        return engine.create(subway);
+    }
+}
@@ -0,0 +1,78 @@
+package subway.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import subway.domain.Subway;
+import subway.domain.path.CompressedPathFinder;
+import subway.domain.path.Path;
+import subway.domain.path.PathFinderType;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchModeBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"50", "200"})
+    private int lines;
+
+    @Param({"200", "500"})
+    private int stationsPerLine;
+
+    @Param({"0.1", "0.3"})
+    private double transferDensity;
+
+    @Param({"CSR", "BIDIRECTIONAL"})
+    private PathFinderType engine;
+
+    private CompressedPathFinder pathFinder;
+    private List<String[]> queries;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        final Subway subway = BenchmarkNetwork.create(lines, stationsPerLine, transferDensity, 1L);
+        pathFinder = (CompressedPathFinder) engine.create(subway);
+        queries = BenchmarkNetwork.stationPairs(subway, QUERY_COUNT, 2L);
+    }
+
+    @Benchmark
+    public Path find(final SettledCounter counter) {
+        final String[] query = queries.get(cursor++ & (QUERY_COUNT - 1));
+        final Path path = pathFinder.find(query[0], query[1]);
+        counter.settled += pathFinder.getLastSettledCount();
+        counter.queries++;
+        return path;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SettledCounter {
+
+        public long settled;
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            settled = 0;
+            queries = 0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package subway.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+public final class SlowDatabase implements BeanPostProcessor {
+
+    private volatile long queryLatencyMillis;
+
+    public void setQueryLatencyMillis(final long queryLatencyMillis) {
+        this.queryLatencyMillis = queryLatencyMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource) {
+            return wrap(DataSource.class, bean);
+        }
+        return bean;
+    }
+
+    private Object wrap(final Class<?> type, final Object target) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new Delegate(target));
+    }
+
+    private void pause() throws InterruptedException {
+        final long latency = queryLatencyMillis;
+        if (latency > 0) {
+            TimeUnit.MILLISECONDS.sleep(latency);
+        }
+    }
+
+    private final class Delegate implements InvocationHandler {
+
+        private final Object target;
+
+        private Delegate(final Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class && method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getDeclaringClass() == Object.class && method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                pause();
+            }
+            final Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if ((result instanceof Connection || result instanceof Statement) && method.getReturnType().isInterface()) {
+                return wrap(method.getReturnType(), result);
+            }
+            return result;
+        }
+    }
+}
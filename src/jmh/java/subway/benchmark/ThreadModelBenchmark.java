@@ -0,0 +1,134 @@
+package subway.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import subway.SubwayApplication;
+import subway.domain.Subway;
+import subway.repository.LineRepository;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(400)
+@State(Scope.Benchmark)
+public class ThreadModelBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ThreadModel threadModel;
+
+    @Param({"5"})
+    private long queryLatencyMillis;
+
+    @Param({"10", "100"})
+    private int connectionPoolSize;
+
+    @Param({"200"})
+    private int tomcatThreads;
+
+    @Param({"10"})
+    private int lines;
+
+    @Param({"50"})
+    private int stationsPerLine;
+
+    @Param({"0.1"})
+    private double transferDensity;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest linesRequest;
+    private List<HttpRequest> pathRequests;
+
+    @Setup
+    public void setUp() {
+        final SlowDatabase slowDatabase = new SlowDatabase();
+        context = new SpringApplicationBuilder(SubwayApplication.class)
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .addBeanPostProcessor(slowDatabase))
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:thread-model-" + System.nanoTime()
+                                + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.hikari.maximum-pool-size=" + connectionPoolSize,
+                        "--server.tomcat.threads.max=" + tomcatThreads,
+                        "--subway.threads.virtual=" + (threadModel == ThreadModel.VIRTUAL),
+                        "--subway.path-cache.maximum-size=0",
+                        "--subway.routing.consistency-check=false",
+                        "--subway.access-log.enabled=false"
+                );
+        final Subway subway = BenchmarkNetwork.create(lines, stationsPerLine, transferDensity, 1L);
+        context.getBean(LineRepository.class).saveAll(subway.getLines());
+        slowDatabase.setQueryLatencyMillis(queryLatencyMillis);
+
+        final String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        linesRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/lines")).build();
+        pathRequests = BenchmarkNetwork.stationPairs(subway, QUERY_COUNT, 2L).stream()
+                .map(pair -> HttpRequest.newBuilder(URI.create(baseUrl + "/path"
+                        + "?startStationName=" + URLEncoder.encode(pair[0], UTF_8)
+                        + "&endStationName=" + URLEncoder.encode(pair[1], UTF_8))).build())
+                .collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String findAllLines() throws IOException, InterruptedException {
+        return send(linesRequest);
+    }
+
+    @Benchmark
+    public String findShortestPath() throws IOException, InterruptedException {
+        return send(pathRequests.get(ThreadLocalRandom.current().nextInt(QUERY_COUNT)));
+    }
+
+    private String send(final HttpRequest request) throws IOException, InterruptedException {
+        final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " 요청이 " + response.statusCode() + " 응답을 받았습니다.");
+        }
+        return response.body();
+    }
+
+    public enum ThreadModel {
+        PLATFORM,
+        VIRTUAL
+    }
+}
@@ -0,0 +1,100 @@
+package subway.accesslog;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class AccessLogBuffer implements MeterBinder {
+
+    private static final int MAXIMUM_DRAIN_SIZE = 256;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final BlockingQueue<AccessLogEvent> events;
+    private final Consumer<AccessLogEvent> writer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread consumer;
+    private long reportedDroppedCount;
+
+    public AccessLogBuffer(final int capacity, final Consumer<AccessLogEvent> writer) {
+        this.events = new ArrayBlockingQueue<>(capacity);
+        this.writer = writer;
+        this.consumer = new Thread(this::drain, "access-log");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    public void publish(final AccessLogEvent event) {
+        if (!events.offer(event)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("subway.access.log.dropped", this, AccessLogBuffer::getDroppedCount)
+                .description("버퍼가 가득 차서 버린 접근 로그 수")
+                .register(registry);
+        Gauge.builder("subway.access.log.buffered", events, BlockingQueue::size)
+                .description("기록을 기다리는 접근 로그 수")
+                .register(registry);
+    }
+
+    public void close() {
+        consumer.interrupt();
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final List<AccessLogEvent> remaining = new ArrayList<>();
+        events.drainTo(remaining);
+        write(remaining);
+    }
+
+    private void drain() {
+        final List<AccessLogEvent> batch = new ArrayList<>(MAXIMUM_DRAIN_SIZE);
+        while (true) {
+            try {
+                batch.add(events.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            events.drainTo(batch, MAXIMUM_DRAIN_SIZE - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(final List<AccessLogEvent> batch) {
+        reportDropped();
+        for (AccessLogEvent event : batch) {
+            try {
+                writer.accept(event);
+            } catch (RuntimeException e) {
+                logger.warn("접근 로그를 기록하지 못했습니다.", e);
+            }
+        }
+    }
+
+    private void reportDropped() {
+        final long dropped = droppedCount.get();
+        if (dropped > reportedDroppedCount) {
+            logger.warn("접근 로그 버퍼가 가득 차서 {}건을 버렸습니다.", dropped - reportedDroppedCount);
+            reportedDroppedCount = dropped;
+        }
+    }
+}
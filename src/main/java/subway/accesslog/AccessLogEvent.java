@@ -0,0 +1,122 @@
+package subway.accesslog;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AccessLogEvent {
+
+    private String timestamp;
+    private String method;
+    private String uri;
+    private String query;
+    private int status;
+    private double elapsedMillis;
+    private String remoteAddress;
+    private Map<String, String> requestHeaders;
+    private Map<String, String> responseHeaders;
+    private Body requestBody;
+    private Body responseBody;
+
+    private AccessLogEvent() {
+    }
+
+    public AccessLogEvent(
+            final String timestamp,
+            final String method,
+            final String uri,
+            final String query,
+            final int status,
+            final double elapsedMillis,
+            final String remoteAddress,
+            final Map<String, String> requestHeaders,
+            final Map<String, String> responseHeaders,
+            final Body requestBody,
+            final Body responseBody
+    ) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.uri = uri;
+        this.query = query;
+        this.status = status;
+        this.elapsedMillis = elapsedMillis;
+        this.remoteAddress = remoteAddress;
+        this.requestHeaders = requestHeaders;
+        this.responseHeaders = responseHeaders;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    public Map<String, String> getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    public Map<String, String> getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    public Body getRequestBody() {
+        return requestBody;
+    }
+
+    public Body getResponseBody() {
+        return responseBody;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Body {
+
+        private long size;
+        private boolean truncated;
+        private String content;
+
+        private Body() {
+        }
+
+        public Body(final long size, final boolean truncated, final String content) {
+            this.size = size;
+            this.truncated = truncated;
+            this.content = content;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        public String getContent() {
+            return content;
+        }
+    }
+}
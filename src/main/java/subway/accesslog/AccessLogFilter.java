@@ -0,0 +1,182 @@
+package subway.accesslog;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Set<String> MASKED_HEADERS = Set.of("authorization", "proxy-authorization", "cookie", "set-cookie");
+    private static final String MASK = "****";
+
+    private final AccessLogBuffer accessLogBuffer;
+    private final double sampleRate;
+    private final AccessLogMode mode;
+    private final int maximumBodySize;
+    private final boolean errorBody;
+    private final int maximumErrorBodySize;
+    private final int errorRequestPrefixSize;
+
+    public AccessLogFilter(
+            final AccessLogBuffer accessLogBuffer,
+            final double sampleRate,
+            final AccessLogMode mode,
+            final int maximumBodySize,
+            final boolean errorBody,
+            final int maximumErrorBodySize,
+            final int errorRequestPrefixSize
+    ) {
+        this.accessLogBuffer = accessLogBuffer;
+        this.sampleRate = sampleRate;
+        this.mode = mode;
+        this.maximumBodySize = maximumBodySize;
+        this.errorBody = errorBody;
+        this.maximumErrorBodySize = maximumErrorBodySize;
+        this.errorRequestPrefixSize = errorRequestPrefixSize;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final boolean sampled = ThreadLocalRandom.current().nextDouble() < sampleRate;
+        if (!sampled && !errorBody) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final Instant startedAt = Instant.now();
+        final long startedNanos = System.nanoTime();
+        final CapturingRequest capturingRequest = new CapturingRequest(request, requestCaptureLimit(sampled));
+        final CapturingResponse capturingResponse = new CapturingResponse(response, status -> bodyLimit(sampled, status));
+        try {
+            filterChain.doFilter(capturingRequest, capturingResponse);
+        } finally {
+            final Runnable publish = () -> publish(sampled, startedAt, startedNanos, capturingRequest, capturingResponse);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(publish));
+            } else {
+                publish.run();
+            }
+        }
+    }
+
+    private int requestCaptureLimit(final boolean sampled) {
+        if (!sampled) {
+            return Math.min(errorRequestPrefixSize, maximumErrorBodySize);
+        }
+        return Math.max(bodyLimit(true, HttpServletResponse.SC_OK), errorBody ? maximumErrorBodySize : 0);
+    }
+
+    private int bodyLimit(final boolean sampled, final int status) {
+        if (errorBody && status >= HttpServletResponse.SC_BAD_REQUEST) {
+            return maximumErrorBodySize;
+        }
+        if (sampled && mode == AccessLogMode.BODY) {
+            return maximumBodySize;
+        }
+        return 0;
+    }
+
+    private void publish(
+            final boolean sampled,
+            final Instant startedAt,
+            final long startedNanos,
+            final CapturingRequest request,
+            final CapturingResponse response
+    ) {
+        final int status = response.getStatus();
+        if (!sampled && status < HttpServletResponse.SC_BAD_REQUEST) {
+            return;
+        }
+        final int bodyLimit = bodyLimit(sampled, status);
+        accessLogBuffer.publish(new AccessLogEvent(
+                startedAt.toString(),
+                request.getMethod(),
+                request.getRequestURI(),
+                request.getQueryString(),
+                status,
+                (System.nanoTime() - startedNanos) / 1_000_000.0,
+                request.getRemoteAddr(),
+                requestHeaders(request),
+                responseHeaders(response),
+                body(request.getBody(), bodyLimit, request.getHeader(HttpHeaders.CONTENT_ENCODING)),
+                body(response.getBody(), bodyLimit, response.getHeader(HttpHeaders.CONTENT_ENCODING))
+        ));
+    }
+
+    private Map<String, String> requestHeaders(final HttpServletRequest request) {
+        final Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : Collections.list(request.getHeaderNames())) {
+            headers.put(name, headerValue(name, Collections.list(request.getHeaders(name))));
+        }
+        return headers;
+    }
+
+    private Map<String, String> responseHeaders(final HttpServletResponse response) {
+        final Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : new LinkedHashSet<>(response.getHeaderNames())) {
+            headers.put(name, headerValue(name, response.getHeaders(name)));
+        }
+        return headers;
+    }
+
+    private String headerValue(final String name, final Collection<String> values) {
+        if (MASKED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+            return MASK;
+        }
+        return String.join(", ", values);
+    }
+
+    private AccessLogEvent.Body body(final BodyCapture body, final int bodyLimit, final String contentEncoding) {
+        if (bodyLimit == 0 || contentEncoding != null || body.isEmpty()) {
+            return null;
+        }
+        return body.toBody(bodyLimit, UTF_8);
+    }
+
+    private static class CompletionListener implements AsyncListener {
+
+        private final Runnable onComplete;
+
+        private CompletionListener(final Runnable onComplete) {
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            onComplete.run();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+        }
+    }
+}
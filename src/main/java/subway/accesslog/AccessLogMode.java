@@ -0,0 +1,7 @@
+package subway.accesslog;
+
+public enum AccessLogMode {
+
+    HEADERS,
+    BODY
+}
@@ -0,0 +1,27 @@
+package subway.accesslog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class AccessLogWriter implements Consumer<AccessLogEvent> {
+
+    private final Logger logger = LoggerFactory.getLogger("subway.access");
+    private final ObjectMapper objectMapper;
+
+    public AccessLogWriter(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void accept(final AccessLogEvent event) {
+        try {
+            logger.info(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
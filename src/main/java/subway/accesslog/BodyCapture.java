@@ -0,0 +1,58 @@
+package subway.accesslog;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+
+final class BodyCapture {
+
+    private final IntSupplier limitResolver;
+    private int limit = -1;
+    private byte[] bytes = new byte[0];
+    private int captured;
+    private long size;
+
+    BodyCapture(final IntSupplier limitResolver) {
+        this.limitResolver = limitResolver;
+    }
+
+    void append(final int value) {
+        if (captured < resolveLimit()) {
+            ensureCapacity(captured + 1);
+            bytes[captured++] = (byte) value;
+        }
+        size++;
+    }
+
+    void append(final byte[] source, final int offset, final int length) {
+        final int count = Math.min(length, resolveLimit() - captured);
+        if (count > 0) {
+            ensureCapacity(captured + count);
+            System.arraycopy(source, offset, bytes, captured, count);
+            captured += count;
+        }
+        size += length;
+    }
+
+    private int resolveLimit() {
+        if (limit < 0) {
+            limit = limitResolver.getAsInt();
+        }
+        return limit;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.min(limit, Math.max(capacity, bytes.length * 2)));
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    AccessLogEvent.Body toBody(final int bodyLimit, final Charset charset) {
+        final int length = Math.min(captured, bodyLimit);
+        return new AccessLogEvent.Body(size, size > length, new String(bytes, 0, length, charset));
+    }
+}
@@ -0,0 +1,79 @@
+package subway.accesslog;
+
+import java.io.IOException;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+final class CapturingRequest extends HttpServletRequestWrapper {
+
+    private final BodyCapture body;
+    private ServletInputStream inputStream;
+
+    CapturingRequest(final HttpServletRequest request, final int captureLimit) {
+        super(request);
+        this.body = new BodyCapture(() -> captureLimit);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new CapturingInputStream(super.getInputStream(), body);
+        }
+        return inputStream;
+    }
+
+    BodyCapture getBody() {
+        return body;
+    }
+
+    private static class CapturingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final BodyCapture body;
+
+        private CapturingInputStream(final ServletInputStream delegate, final BodyCapture body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = delegate.read();
+            if (value >= 0) {
+                body.append(value);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            final int count = delegate.read(buffer, offset, length);
+            if (count > 0) {
+                body.append(buffer, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
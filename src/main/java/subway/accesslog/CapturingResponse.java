@@ -0,0 +1,74 @@
+package subway.accesslog;
+
+import java.io.IOException;
+import java.util.function.IntUnaryOperator;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+final class CapturingResponse extends HttpServletResponseWrapper {
+
+    private final BodyCapture body;
+    private ServletOutputStream outputStream;
+
+    CapturingResponse(final HttpServletResponse response, final IntUnaryOperator captureLimitByStatus) {
+        super(response);
+        this.body = new BodyCapture(() -> captureLimitByStatus.applyAsInt(response.getStatus()));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream(), body);
+        }
+        return outputStream;
+    }
+
+    BodyCapture getBody() {
+        return body;
+    }
+
+    private static class CapturingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final BodyCapture body;
+
+        private CapturingOutputStream(final ServletOutputStream delegate, final BodyCapture body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            delegate.write(value);
+            body.append(value);
+        }
+
+        @Override
+        public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+            delegate.write(buffer, offset, length);
+            body.append(buffer, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import subway.domain.Line;
 import subway.dto.LineResponse;
 import subway.dto.LineSaveRequest;
 import subway.dto.LineUpdateRequest;
+import subway.exception.DuplicateLineNameException;
 import subway.repository.LineRepository;
 
 @Transactional
@@ -23,6 +24,9 @@ public class LineService {
     }
 
     public Long save(final LineSaveRequest request) {
+        if (lineRepository.existsByName(request.getName())) {
+            throw new DuplicateLineNameException();
+        }
         final Line line = new Line(request.getName(), request.getColor(), Collections.emptyList());
         lineRepository.save(line);
         return lineRepository.findIdByName(request.getName());
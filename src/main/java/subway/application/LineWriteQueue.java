@@ -0,0 +1,214 @@
+package subway.application;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import subway.domain.Subway;
+import subway.exception.LineWriteUnavailableException;
+
+public class LineWriteQueue {
+
+    private final Executor executor;
+    private final int maximumBatchSize;
+    private final long timeoutMillis;
+    private final Map<String, LineWriter> writers = new HashMap<>();
+
+    public LineWriteQueue(final Executor executor, final int maximumBatchSize, final Duration timeout) {
+        this.executor = executor;
+        this.maximumBatchSize = maximumBatchSize;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public void execute(final String lineName, final StationCommand command, final BatchWriter batchWriter) {
+        final PendingCommand pendingCommand = new PendingCommand(command);
+        final LineWriter writer;
+        synchronized (writers) {
+            writer = writers.computeIfAbsent(lineName, name -> new LineWriter(name, batchWriter));
+            writer.pendingCommands.add(pendingCommand);
+            if (!writer.running) {
+                start(writer);
+            }
+        }
+        await(writer, pendingCommand);
+    }
+
+    public void close() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    private void start(final LineWriter writer) {
+        writer.running = true;
+        try {
+            executor.execute(writer);
+        } catch (RejectedExecutionException e) {
+            writers.remove(writer.lineName);
+            throw new LineWriteUnavailableException();
+        }
+    }
+
+    private void await(final LineWriter writer, final PendingCommand pendingCommand) {
+        try {
+            pendingCommand.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw failure(e);
+        } catch (TimeoutException e) {
+            if (cancel(writer, pendingCommand)) {
+                throw new LineWriteUnavailableException();
+            }
+            awaitInFlight(pendingCommand);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (cancel(writer, pendingCommand)) {
+                throw new LineWriteUnavailableException();
+            }
+            awaitInFlight(pendingCommand);
+        }
+    }
+
+    private void awaitInFlight(final PendingCommand pendingCommand) {
+        try {
+            pendingCommand.result.join();
+        } catch (CompletionException e) {
+            throw failure(e);
+        }
+    }
+
+    private RuntimeException failure(final Exception e) {
+        if (e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private boolean cancel(final LineWriter writer, final PendingCommand pendingCommand) {
+        synchronized (writers) {
+            return writer.pendingCommands.remove(pendingCommand);
+        }
+    }
+
+    private void resubmit(final LineWriter writer) {
+        try {
+            executor.execute(writer);
+        } catch (RejectedExecutionException e) {
+            synchronized (writers) {
+                for (PendingCommand pendingCommand : writer.pendingCommands) {
+                    pendingCommand.fail(new LineWriteUnavailableException());
+                }
+                writer.pendingCommands.clear();
+                writer.running = false;
+                writers.remove(writer.lineName);
+            }
+        }
+    }
+
+    private List<PendingCommand> pollBatch(final LineWriter writer) {
+        synchronized (writers) {
+            if (writer.pendingCommands.isEmpty()) {
+                writer.running = false;
+                writers.remove(writer.lineName);
+                return Collections.emptyList();
+            }
+            final List<PendingCommand> batch = new ArrayList<>();
+            while (batch.size() < maximumBatchSize && !writer.pendingCommands.isEmpty()) {
+                batch.add(writer.pendingCommands.poll());
+            }
+            return batch;
+        }
+    }
+
+    @FunctionalInterface
+    public interface BatchWriter {
+
+        void write(String lineName, StationCommand batch);
+    }
+
+    private class LineWriter implements Runnable {
+
+        private final String lineName;
+        private final BatchWriter batchWriter;
+        private final Queue<PendingCommand> pendingCommands = new ArrayDeque<>();
+        private boolean running;
+
+        private LineWriter(final String lineName, final BatchWriter batchWriter) {
+            this.lineName = lineName;
+            this.batchWriter = batchWriter;
+        }
+
+        @Override
+        public void run() {
+            final List<PendingCommand> batch = pollBatch(this);
+            if (batch.isEmpty()) {
+                return;
+            }
+            write(batch);
+            resubmit(this);
+        }
+
+        private void write(final List<PendingCommand> batch) {
+            try {
+                batchWriter.write(lineName, subway -> applyAll(batch, subway));
+                batch.forEach(PendingCommand::complete);
+            } catch (RuntimeException e) {
+                batch.forEach(pendingCommand -> pendingCommand.fail(e));
+            }
+        }
+
+        private void applyAll(final List<PendingCommand> batch, final Subway subway) {
+            batch.forEach(pendingCommand -> pendingCommand.apply(subway));
+            if (batch.stream().allMatch(PendingCommand::failed)) {
+                throw batch.get(batch.size() - 1).failure;
+            }
+        }
+    }
+
+    private static class PendingCommand {
+
+        private final StationCommand command;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private RuntimeException failure;
+
+        private PendingCommand(final StationCommand command) {
+            this.command = command;
+        }
+
+        private void apply(final Subway subway) {
+            failure = null;
+            try {
+                command.apply(subway);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        private boolean failed() {
+            return failure != null;
+        }
+
+        private void complete() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            result.complete(null);
+        }
+
+        private void fail(final RuntimeException e) {
+            result.completeExceptionally(failure != null ? failure : e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package subway.application;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import subway.domain.path.PathFinderMetrics;
+
+@Component
+public class MicrometerPathFinderMetrics implements PathFinderMetrics {
+
+    private final Timer graphBuildTimer;
+    private final Timer searchTimer;
+    private final DistributionSummary visitedStations;
+    private final DistributionSummary visitedSections;
+
+    public MicrometerPathFinderMetrics(final MeterRegistry meterRegistry) {
+        this.graphBuildTimer = Timer.builder("subway.path.graph.build")
+                .description("경로 탐색 그래프 구성 시간")
+                .register(meterRegistry);
+        this.searchTimer = Timer.builder("subway.path.search")
+                .description("그래프 구성을 제외한 최단 경로 탐색 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.visitedStations = DistributionSummary.builder("subway.path.search.visited.stations")
+                .description("최단 경로 탐색 한 번에 확정한 역 수")
+                .baseUnit("stations")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.visitedSections = DistributionSummary.builder("subway.path.search.visited.sections")
+                .description("최단 경로 탐색 한 번에 확인한 구간 수")
+                .baseUnit("sections")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordGraphBuild(final long elapsedNanos) {
+        graphBuildTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordSearch(final long elapsedNanos, final int visitedStations, final int visitedSections) {
+        searchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        this.visitedStations.record(visitedStations);
+        this.visitedSections.record(visitedSections);
+    }
+}
@@ -0,0 +1,42 @@
+package subway.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import subway.dao.NetworkDao;
+import subway.dto.NetworkRecord;
+
+@Transactional(readOnly = true)
+@Service
+public class NetworkExportService {
+
+    private final NetworkDao networkDao;
+    private final ObjectMapper objectMapper;
+
+    public NetworkExportService(final NetworkDao networkDao, final ObjectMapper objectMapper) {
+        this.networkDao = networkDao;
+        this.objectMapper = objectMapper;
+    }
+
+    public void export(final NetworkFormat format, final OutputStream outputStream, final boolean gzip)
+            throws IOException {
+        try (Writer writer = NetworkFormat.openWriter(outputStream, gzip)) {
+            format.writeHeader(writer);
+            networkDao.forEachRecord(record -> write(format, writer, record));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void write(final NetworkFormat format, final Writer writer, final NetworkRecord record) {
+        try {
+            format.write(writer, record, objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package subway.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.MediaType;
+import subway.dto.NetworkRecord;
+import subway.exception.NotValidException;
+
+public enum NetworkFormat {
+
+    CSV("text/csv", List.of(".csv")) {
+        @Override
+        public Stream<NetworkRecord> read(final BufferedReader reader, final ObjectMapper objectMapper) {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                            new CsvRowIterator(reader),
+                            Spliterator.ORDERED | Spliterator.NONNULL
+                    ), false)
+                    .filter(row -> !row.isBlank() && !row.equals(CSV_HEADER))
+                    .map(NetworkFormat::parseCsv);
+        }
+
+        @Override
+        public void writeHeader(final Writer writer) throws IOException {
+            writer.write(CSV_HEADER);
+            writer.write(LINE_SEPARATOR);
+        }
+
+        @Override
+        public void write(final Writer writer, final NetworkRecord record, final ObjectMapper objectMapper)
+                throws IOException {
+            writer.write(String.join(CSV_DELIMITER,
+                    quoteCsv(record.getLine()),
+                    quoteCsv(record.getColor()),
+                    quoteCsv(nullToEmpty(record.getStart())),
+                    quoteCsv(nullToEmpty(record.getEnd())),
+                    nullToEmpty(record.getDistance())
+            ));
+            writer.write(LINE_SEPARATOR);
+        }
+    },
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE, List.of(".ndjson", ".jsonl")) {
+        @Override
+        public Stream<NetworkRecord> read(final BufferedReader reader, final ObjectMapper objectMapper) {
+            return reader.lines()
+                    .filter(row -> !row.isBlank())
+                    .map(row -> parseJson(row, objectMapper));
+        }
+
+        @Override
+        public void write(final Writer writer, final NetworkRecord record, final ObjectMapper objectMapper)
+                throws IOException {
+            writer.write(objectMapper.writeValueAsString(record));
+            writer.write(LINE_SEPARATOR);
+        }
+    };
+
+    public static final String CSV_HEADER = "line,color,start,end,distance";
+
+    private static final String CSV_DELIMITER = ",";
+    private static final String CSV_QUOTE = "\"";
+    private static final String CSV_SPECIAL_CHARACTERS = ",\"\r\n";
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String GZIP_EXTENSION = ".gz";
+
+    private final String mediaType;
+    private final List<String> extensions;
+
+    NetworkFormat(final String mediaType, final List<String> extensions) {
+        this.mediaType = mediaType;
+        this.extensions = extensions;
+    }
+
+    public abstract Stream<NetworkRecord> read(final BufferedReader reader, final ObjectMapper objectMapper);
+
+    public void writeHeader(final Writer writer) throws IOException {
+    }
+
+    public abstract void write(final Writer writer, final NetworkRecord record, final ObjectMapper objectMapper)
+            throws IOException;
+
+    public static NetworkFormat fromMediaType(final String contentType) {
+        final MediaType requestedType = MediaType.parseMediaType(contentType);
+        return Arrays.stream(values())
+                .filter(format -> MediaType.parseMediaType(format.mediaType).isCompatibleWith(requestedType))
+                .findFirst()
+                .orElseThrow(() -> new NotValidException("지원하지 않는 노선도 형식입니다: " + contentType));
+    }
+
+    public static NetworkFormat fromFileName(final String fileName) {
+        final String name = stripGzipExtension(fileName.toLowerCase());
+        return Arrays.stream(values())
+                .filter(format -> format.extensions.stream().anyMatch(name::endsWith))
+                .findFirst()
+                .orElseThrow(() -> new NotValidException("지원하지 않는 노선도 파일 형식입니다: " + fileName));
+    }
+
+    public static boolean isGzipFile(final String fileName) {
+        return fileName.toLowerCase().endsWith(GZIP_EXTENSION);
+    }
+
+    public static BufferedReader open(final InputStream inputStream, final boolean gzip) throws IOException {
+        final InputStream source = gzip ? new GZIPInputStream(inputStream) : inputStream;
+        return new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8));
+    }
+
+    public static Writer openWriter(final OutputStream outputStream, final boolean gzip) throws IOException {
+        final OutputStream target = gzip ? new GZIPOutputStream(outputStream) : outputStream;
+        return new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+    }
+
+    private static String stripGzipExtension(final String fileName) {
+        if (fileName.endsWith(GZIP_EXTENSION)) {
+            return fileName.substring(0, fileName.length() - GZIP_EXTENSION.length());
+        }
+        return fileName;
+    }
+
+    private static NetworkRecord parseCsv(final String row) {
+        final List<String> columns = splitCsv(row);
+        if (columns.size() != 5) {
+            throw invalidRecord(row);
+        }
+        return new NetworkRecord(
+                columns.get(0).strip(),
+                columns.get(1).strip(),
+                emptyToNull(columns.get(2)),
+                emptyToNull(columns.get(3)),
+                parseDistance(columns.get(4), row)
+        );
+    }
+
+    private static List<String> splitCsv(final String row) {
+        final List<String> columns = new ArrayList<>();
+        final StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < row.length(); i++) {
+            final char character = row.charAt(i);
+            if (character == '"' && quoted && i + 1 < row.length() && row.charAt(i + 1) == '"') {
+                column.append(character);
+                i++;
+            } else if (character == '"') {
+                quoted = !quoted;
+            } else if (character == ',' && !quoted) {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(character);
+            }
+        }
+        if (quoted) {
+            throw invalidRecord(row);
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+
+    private static String quoteCsv(final String column) {
+        if (column.chars().noneMatch(character -> CSV_SPECIAL_CHARACTERS.indexOf(character) >= 0)) {
+            return column;
+        }
+        return CSV_QUOTE + column.replace(CSV_QUOTE, CSV_QUOTE + CSV_QUOTE) + CSV_QUOTE;
+    }
+
+    private static String emptyToNull(final String column) {
+        final String value = column.strip();
+        if (value.isEmpty()) {
+            return null;
+        }
+        return value;
+    }
+
+    private static String nullToEmpty(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        return value.toString();
+    }
+
+    private static Integer parseDistance(final String column, final String row) {
+        final String value = emptyToNull(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw invalidRecord(row);
+        }
+    }
+
+    private static NetworkRecord parseJson(final String row, final ObjectMapper objectMapper) {
+        try {
+            return objectMapper.readValue(row, NetworkRecord.class);
+        } catch (JsonProcessingException e) {
+            throw invalidRecord(row);
+        }
+    }
+
+    private static NotValidException invalidRecord(final String row) {
+        return new NotValidException("가져올 노선도의 형식이 올바르지 않습니다: " + row);
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    private static class CsvRowIterator implements Iterator<String> {
+
+        private final BufferedReader reader;
+        private String next;
+
+        private CsvRowIterator(final BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = readRow();
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final String row = next;
+            next = null;
+            return row;
+        }
+
+        private String readRow() {
+            String row = readLine();
+            while (row != null && isInsideQuotes(row)) {
+                final String continued = readLine();
+                if (continued == null) {
+                    return row;
+                }
+                row = row + LINE_SEPARATOR + continued;
+            }
+            return row;
+        }
+
+        private boolean isInsideQuotes(final String row) {
+            return row.chars().filter(character -> character == '"').count() % 2 == 1;
+        }
+
+        private String readLine() {
+            try {
+                return reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package subway.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import subway.dto.NetworkImportResponse;
+
+@Component
+@ConditionalOnProperty(name = "subway.import.file")
+public class NetworkImportRunner implements ApplicationRunner {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final NetworkImportService networkImportService;
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public NetworkImportRunner(
+            final NetworkImportService networkImportService,
+            final ObjectMapper objectMapper,
+            @Value("${subway.import.file}") final Path file
+    ) {
+        this.networkImportService = networkImportService;
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) throws Exception {
+        final String fileName = file.getFileName().toString();
+        final NetworkFormat format = NetworkFormat.fromFileName(fileName);
+        try (BufferedReader reader = NetworkFormat.open(Files.newInputStream(file), NetworkFormat.isGzipFile(fileName))) {
+            final NetworkImportResponse response = networkImportService.importNetwork(format.read(reader, objectMapper));
+            logger.info("노선도를 가져왔습니다. 파일: {}, 노선: {}개, 역: {}개, 구간: {}개",
+                    file, response.getLines(), response.getStations(), response.getSections());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package subway.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.domain.Distance;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.dto.NetworkImportResponse;
+import subway.dto.NetworkRecord;
+import subway.exception.InvalidSectionException;
+import subway.exception.NotValidException;
+import subway.repository.LineRepository;
+
+@Service
+public class NetworkImportService {
+
+    private final LineRepository lineRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public NetworkImportService(final LineRepository lineRepository, final TransactionTemplate transactionTemplate) {
+        this.lineRepository = lineRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public NetworkImportResponse importNetwork(final Stream<NetworkRecord> records) {
+        final Map<String, String> colorByLine = new LinkedHashMap<>();
+        final Map<String, List<Section>> sectionsByLine = new HashMap<>();
+        final Map<String, Station> stationByName = new HashMap<>();
+        try (records) {
+            records.forEach(record -> collect(record, colorByLine, sectionsByLine, stationByName));
+        }
+
+        final List<Line> lines = new ArrayList<>();
+        colorByLine.forEach((name, color) ->
+                lines.add(Line.connected(name, color, sectionsByLine.getOrDefault(name, List.of())))
+        );
+        transactionTemplate.executeWithoutResult(status -> save(lines));
+        return toResponse(lines);
+    }
+
+    private void save(final List<Line> lines) {
+        final Subway subway = new Subway(lineRepository.findAll());
+        lines.forEach(subway::addLine);
+        lineRepository.saveAll(lines);
+    }
+
+    private void collect(
+            final NetworkRecord record,
+            final Map<String, String> colorByLine,
+            final Map<String, List<Section>> sectionsByLine,
+            final Map<String, Station> stationByName
+    ) {
+        validate(record);
+        final String color = colorByLine.putIfAbsent(record.getLine(), record.getColor());
+        if (color != null && !color.equals(record.getColor())) {
+            throw new NotValidException("한 노선에 서로 다른 색상이 입력되었습니다: " + record.getLine());
+        }
+        if (record.hasSection()) {
+            sectionsByLine.computeIfAbsent(record.getLine(), ignored -> new ArrayList<>())
+                    .add(new Section(
+                            stationByName.computeIfAbsent(record.getStart(), Station::new),
+                            stationByName.computeIfAbsent(record.getEnd(), Station::new),
+                            Distance.valueOf(record.getDistance())
+                    ));
+        }
+    }
+
+    private void validate(final NetworkRecord record) {
+        if (isBlank(record.getLine()) || isBlank(record.getColor())) {
+            throw new NotValidException("노선 이름과 색상을 입력해주세요.");
+        }
+        if (!record.hasSection()) {
+            return;
+        }
+        if (isBlank(record.getStart()) || isBlank(record.getEnd()) || record.getDistance() == null) {
+            throw new NotValidException("구간의 출발역, 도착역, 거리를 모두 입력해주세요.");
+        }
+        if (record.getStart().equals(record.getEnd())) {
+            throw new InvalidSectionException("동일한 이름을 가진 역을 구간에 추가할 수 없습니다.");
+        }
+    }
+
+    private boolean isBlank(final String value) {
+        return value == null || value.isBlank();
+    }
+
+    private NetworkImportResponse toResponse(final List<Line> lines) {
+        final long stationCount = lines.stream()
+                .flatMap(line -> line.findAllStation().stream())
+                .distinct()
+                .count();
+        final int sectionCount = lines.stream()
+                .mapToInt(line -> line.getSections().size())
+                .sum();
+        return new NetworkImportResponse(lines.size(), (int) stationCount, sectionCount);
+    }
+}
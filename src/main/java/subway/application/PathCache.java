@@ -0,0 +1,161 @@
+package subway.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import subway.dto.ShortestPathResponse;
+
+@Component
+public class PathCache implements MeterBinder {
+
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final Map<List<String>, Entry> entries;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public PathCache(
+            @Value("${subway.path-cache.maximum-size:1000}") final int maximumSize,
+            @Value("${subway.path-cache.time-to-live:10m}") final Duration timeToLive
+    ) {
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<List<String>, Entry> eldest) {
+                if (size() > PathCache.this.maximumSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Optional<ShortestPathResponse> get(final String startStationName, final String endStationName, final long version) {
+        final List<String> key = toKey(startStationName, endStationName);
+        final Entry entry;
+        synchronized (entries) {
+            entry = findValidEntry(key, version);
+        }
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        if (isReversed(startStationName, endStationName)) {
+            return Optional.of(entry.response.reverse());
+        }
+        return Optional.of(entry.response);
+    }
+
+    private Entry findValidEntry(final List<String> key, final long version) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.version != version) {
+            entries.remove(key);
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt >= timeToLiveNanos) {
+            entries.remove(key);
+            evictionCount.incrementAndGet();
+            return null;
+        }
+        return entry;
+    }
+
+    public void put(
+            final String startStationName,
+            final String endStationName,
+            final long version,
+            final ShortestPathResponse response
+    ) {
+        if (maximumSize <= 0) {
+            return;
+        }
+        final ShortestPathResponse normalized =
+                isReversed(startStationName, endStationName) ? response.reverse() : response;
+        synchronized (entries) {
+            entries.put(toKey(startStationName, endStationName), new Entry(version, System.nanoTime(), normalized));
+        }
+    }
+
+    private List<String> toKey(final String startStationName, final String endStationName) {
+        if (isReversed(startStationName, endStationName)) {
+            return List.of(endStationName, startStationName);
+        }
+        return List.of(startStationName, endStationName);
+    }
+
+    private boolean isReversed(final String startStationName, final String endStationName) {
+        return startStationName.compareTo(endStationName) > 0;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public double getHitRatio() {
+        final long hits = hitCount.get();
+        final long requests = hits + missCount.get();
+        if (requests == 0) {
+            return 0;
+        }
+        return (double) hits / requests;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("subway.path.cache.gets", this, PathCache::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("subway.path.cache.gets", this, PathCache::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("subway.path.cache.evictions", this, PathCache::getEvictionCount)
+                .register(registry);
+        Gauge.builder("subway.path.cache.size", this, PathCache::size)
+                .register(registry);
+        Gauge.builder("subway.path.cache.hit.ratio", this, PathCache::getHitRatio)
+                .register(registry);
+    }
+
+    private static final class Entry {
+
+        private final long version;
+        private final long createdAt;
+        private final ShortestPathResponse response;
+
+        private Entry(final long version, final long createdAt, final ShortestPathResponse response) {
+            this.version = version;
+            this.createdAt = createdAt;
+            this.response = response;
+        }
+    }
+}
@@ -1,33 +1,43 @@
 package subway.application;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import subway.domain.path.Path;
-import subway.domain.path.JgraphtPathFinder;
-import subway.domain.Subway;
 import subway.domain.fare.FarePolicy;
-import subway.domain.path.PathFinder;
+import subway.domain.path.Path;
 import subway.dto.ShortestPathRequest;
 import subway.dto.ShortestPathResponse;
-import subway.repository.LineRepository;
 
 @Service
 public class PathService {
 
-    private final LineRepository lineRepository;
+    private final RoutingGraph routingGraph;
     private final FarePolicy farePolicy;
+    private final PathCache pathCache;
 
-    public PathService(final LineRepository lineRepository, final FarePolicy farePolicy) {
-        this.lineRepository = lineRepository;
+    public PathService(final RoutingGraph routingGraph, final FarePolicy farePolicy, final PathCache pathCache) {
+        this.routingGraph = routingGraph;
         this.farePolicy = farePolicy;
+        this.pathCache = pathCache;
     }
 
-    @Transactional(readOnly = true)
     public ShortestPathResponse findShortestPath(final ShortestPathRequest request) {
-        Subway subway = new Subway(lineRepository.findAll());
-        PathFinder pathFinder = new JgraphtPathFinder(subway);
-        Path shortestPath = pathFinder.find(request.getStartStationName(), request.getEndStationName());
-        int fare = farePolicy.calculate(shortestPath.getDistance());
+        final String startStationName = request.getStartStationName();
+        final String endStationName = request.getEndStationName();
+        if (routingGraph.hasUncommittedChanges()) {
+            return calculate(startStationName, endStationName);
+        }
+
+        final long version = routingGraph.getVersion();
+        return pathCache.get(startStationName, endStationName, version)
+                .orElseGet(() -> {
+                    final ShortestPathResponse response = calculate(startStationName, endStationName);
+                    pathCache.put(startStationName, endStationName, version, response);
+                    return response;
+                });
+    }
+
+    private ShortestPathResponse calculate(final String startStationName, final String endStationName) {
+        Path shortestPath = routingGraph.find(startStationName, endStationName);
+        int fare = shortestPath.calculateFare(farePolicy);
 
         return ShortestPathResponse.of(shortestPath, fare);
     }
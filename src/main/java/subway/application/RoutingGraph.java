@@ -0,0 +1,155 @@
+package subway.application;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import subway.domain.SectionChanges;
+import subway.domain.Subway;
+import subway.domain.path.Path;
+import subway.domain.path.PathFinder;
+import subway.domain.path.PathFinderOptions;
+import subway.domain.path.PathFinderType;
+import subway.domain.path.UpdatablePathFinder;
+import subway.repository.LineRepository;
+import subway.repository.SubwayChangedEvent;
+
+@Component
+public class RoutingGraph implements PathFinder {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final LineRepository lineRepository;
+    private final PathFinderType pathFinderType;
+    private final PathFinderOptions pathFinderOptions;
+    private final boolean consistencyCheck;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+    private volatile UpdatablePathFinder pathFinder;
+
+    public RoutingGraph(
+            final LineRepository lineRepository,
+            final PathFinderOptions pathFinderOptions,
+            @Value("${subway.routing.engine:JGRAPHT}") final PathFinderType pathFinderType,
+            @Value("${subway.routing.consistency-check:false}") final boolean consistencyCheck
+    ) {
+        this.lineRepository = lineRepository;
+        this.pathFinderType = pathFinderType;
+        this.pathFinderOptions = pathFinderOptions;
+        this.consistencyCheck = consistencyCheck;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onSubwayChanged(final SubwayChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(event.getChanges());
+            return;
+        }
+        final SectionChanges pendingChanges = (SectionChanges) TransactionSynchronizationManager.getResource(this);
+        if (pendingChanges != null) {
+            pendingChanges.addAll(event.getChanges());
+            return;
+        }
+        final SectionChanges changes = new SectionChanges();
+        changes.addAll(event.getChanges());
+        TransactionSynchronizationManager.bindResource(this, changes);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RoutingGraph.this);
+                if (status == STATUS_COMMITTED) {
+                    apply(changes);
+                }
+                if (status == STATUS_UNKNOWN) {
+                    rebuild();
+                }
+            }
+        });
+    }
+
+    @Override
+    public Path find(final String startStationName, final String endStationName) {
+        if (hasUncommittedChanges()) {
+            // 아직 커밋되지 않은 변경은 현재 트랜잭션에서만 보여야 하므로 공유 그래프를 사용하지 않는다.
+            return load().find(startStationName, endStationName);
+        }
+        if (pathFinder == null) {
+            rebuild();
+        }
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return pathFinder.find(startStationName, endStationName);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public boolean hasUncommittedChanges() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public void apply(final SectionChanges changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (pathFinder == null) {
+                pathFinder = load();
+                version.incrementAndGet();
+                return;
+            }
+            pathFinder.apply(changes, version::incrementAndGet);
+            if (consistencyCheck) {
+                verify(changes);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void verify(final SectionChanges changes) {
+        final UpdatablePathFinder rebuilt = load();
+        final SectionChanges difference = SectionChanges.added(rebuilt.getSections());
+        difference.addAll(SectionChanges.removed(pathFinder.getSections()));
+        if (!difference.isEmpty()) {
+            logger.warn("증분 반영한 경로 그래프가 전체 재구성 결과와 다릅니다. 재구성한 그래프로 교체합니다. {}", changes);
+            pathFinder = rebuilt;
+            version.incrementAndGet();
+        }
+    }
+
+    public void rebuild() {
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            pathFinder = load();
+            version.incrementAndGet();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private UpdatablePathFinder load() {
+        return pathFinderType.create(new Subway(lineRepository.findAll()), pathFinderOptions);
+    }
+}
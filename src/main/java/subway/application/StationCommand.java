@@ -0,0 +1,9 @@
+package subway.application;
+
+import subway.domain.Subway;
+
+@FunctionalInterface
+public interface StationCommand {
+
+    void apply(Subway subway);
+}
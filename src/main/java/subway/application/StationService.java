@@ -1,59 +1,111 @@
 package subway.application;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import subway.domain.Line;
 import subway.domain.Subway;
 import subway.dto.StationDeleteRequest;
 import subway.dto.StationInitialSaveRequest;
 import subway.dto.StationSaveRequest;
+import subway.exception.LineConflictException;
 import subway.repository.LineRepository;
 
-@Transactional
 @Service
 public class StationService {
 
     private final LineRepository lineRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final StationWriteMode writeMode;
+    private final LineWriteQueue lineWriteQueue;
 
-    public StationService(final LineRepository lineRepository) {
+    public StationService(
+            final LineRepository lineRepository,
+            final TransactionTemplate transactionTemplate,
+            @Value("${subway.station.max-attempts:3}") final int maxAttempts,
+            @Value("${subway.station.retry-backoff:20ms}") final Duration retryBackoff,
+            @Value("${subway.station.write-mode:DIRECT}") final StationWriteMode writeMode,
+            final LineWriteQueue lineWriteQueue
+    ) {
         this.lineRepository = lineRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.writeMode = writeMode;
+        this.lineWriteQueue = lineWriteQueue;
     }
 
     public void save(final StationSaveRequest request) {
-        final Subway subway = getSubway();
-        subway.add(
+        execute(request.getLineName(), subway -> subway.add(
                 request.getLineName(),
                 request.getBaseStationName(),
                 request.getAdditionalStationName(),
                 request.getDistance(),
                 request.getDirection()
-        );
-        saveUpdatedLine(subway, request.getLineName());
+        ));
     }
 
     public void initialSave(final StationInitialSaveRequest request) {
-        final Subway subway = getSubway();
-        subway.initialAdd(
+        execute(request.getLineName(), subway -> subway.initialAdd(
                 request.getLineName(),
                 request.getLeftStationName(),
                 request.getRightStationName(),
                 request.getDistance()
-        );
-        saveUpdatedLine(subway, request.getLineName());
+        ));
     }
 
     public void delete(final StationDeleteRequest request) {
-        final Subway subway = getSubway();
-        subway.remove(request.getLineName(), request.getStationName());
-        saveUpdatedLine(subway, request.getLineName());
+        execute(request.getLineName(), subway -> subway.remove(request.getLineName(), request.getStationName()));
     }
 
-    private Subway getSubway() {
-        return new Subway(lineRepository.findAll());
+    private void execute(final String lineName, final StationCommand command) {
+        if (writeMode == StationWriteMode.QUEUED) {
+            lineWriteQueue.execute(lineName, command, this::write);
+            return;
+        }
+        write(lineName, command);
     }
 
-    private void saveUpdatedLine(final Subway subway, final String request) {
-        final Line updatedLine = subway.findLineByLineName(request);
-        lineRepository.save(updatedLine);
+    private void write(final String lineName, final StationCommand command) {
+        retryOnConflict(() -> {
+            final Line line = lineRepository.findByName(lineName);
+            final Subway subway = new Subway(List.of(line), (start, end) ->
+                    lineRepository.existsSectionOutside(lineName, start, end)
+            );
+            command.apply(subway);
+            lineRepository.save(line);
+        });
+    }
+
+    private void retryOnConflict(final Runnable command) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> command.run());
+                return;
+            } catch (LineConflictException | ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    private void backOff(final int attempt, final RuntimeException conflict) {
+        if (retryBackoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(retryBackoffMillis * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
     }
 }
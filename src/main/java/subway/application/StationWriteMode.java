@@ -0,0 +1,7 @@
+package subway.application;
+
+public enum StationWriteMode {
+
+    DIRECT,
+    QUEUED
+}
@@ -0,0 +1,49 @@
+package subway.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import subway.accesslog.AccessLogBuffer;
+import subway.accesslog.AccessLogFilter;
+import subway.accesslog.AccessLogMode;
+import subway.accesslog.AccessLogWriter;
+
+@Configuration
+@ConditionalOnProperty(name = "subway.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogConfig {
+
+    @Bean(destroyMethod = "close")
+    public AccessLogBuffer accessLogBuffer(
+            @Value("${subway.access-log.buffer-size:8192}") final int bufferSize,
+            final ObjectMapper objectMapper
+    ) {
+        return new AccessLogBuffer(bufferSize, new AccessLogWriter(objectMapper));
+    }
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(
+            final AccessLogBuffer accessLogBuffer,
+            @Value("${subway.access-log.sample-rate:1.0}") final double sampleRate,
+            @Value("${subway.access-log.mode:HEADERS}") final AccessLogMode mode,
+            @Value("${subway.access-log.maximum-body-size:1024}") final int maximumBodySize,
+            @Value("${subway.access-log.error-body.enabled:true}") final boolean errorBody,
+            @Value("${subway.access-log.error-body.maximum-size:65536}") final int maximumErrorBodySize,
+            @Value("${subway.access-log.error-body.unsampled-request-size:1024}") final int errorRequestPrefixSize
+    ) {
+        final FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(new AccessLogFilter(
+                accessLogBuffer,
+                sampleRate,
+                mode,
+                maximumBodySize,
+                errorBody,
+                maximumErrorBodySize,
+                errorRequestPrefixSize
+        ));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
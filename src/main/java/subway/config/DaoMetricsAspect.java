@@ -0,0 +1,77 @@
+package subway.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class DaoMetricsAspect {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<List<String>, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    public DaoMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(subway.dao..*) && execution(public * *(..))")
+    public Object record(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final String dao = joinPoint.getTarget().getClass().getSimpleName();
+        final String method = joinPoint.getSignature().getName();
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            final Object result = joinPoint.proceed();
+            recordRows(dao, method, result);
+            return result;
+        } catch (final Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timer(dao, method, exception));
+        }
+    }
+
+    private Timer timer(final String dao, final String method, final String exception) {
+        return timers.computeIfAbsent(List.of(dao, method, exception), ignored -> Timer.builder("subway.dao.query")
+                .description("DAO 메서드 실행 시간")
+                .tags("dao", dao, "method", method, "exception", exception)
+                .register(meterRegistry));
+    }
+
+    private void recordRows(final String dao, final String method, final Object result) {
+        final Integer rows = countRows(result);
+        if (rows == null) {
+            return;
+        }
+        rowSummaries.computeIfAbsent(List.of(dao, method), ignored -> DistributionSummary.builder("subway.dao.rows")
+                        .description("DAO 조회 한 번에 읽은 행 수")
+                        .baseUnit("rows")
+                        .tags("dao", dao, "method", method)
+                        .register(meterRegistry))
+                .record(rows);
+    }
+
+    private Integer countRows(final Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        return null;
+    }
+}
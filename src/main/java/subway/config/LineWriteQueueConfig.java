@@ -0,0 +1,27 @@
+package subway.config;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import subway.application.LineWriteQueue;
+
+@Configuration
+public class LineWriteQueueConfig {
+
+    @Bean(destroyMethod = "close")
+    public LineWriteQueue lineWriteQueue(
+            @Value("${subway.station.write-queue.threads:4}") final int threads,
+            @Value("${subway.station.write-queue.maximum-batch-size:100}") final int maximumBatchSize,
+            @Value("${subway.station.write-queue.timeout:5s}") final Duration timeout
+    ) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return new LineWriteQueue(Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "line-writer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }), maximumBatchSize, timeout);
+    }
+}
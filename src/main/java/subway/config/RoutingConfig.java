@@ -0,0 +1,34 @@
+package subway.config;
+
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import subway.domain.fare.FarePolicy;
+import subway.domain.path.PathFinderMetrics;
+import subway.domain.path.PathFinderOptions;
+
+@Configuration
+public class RoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public PathFinderOptions pathFinderOptions(
+            final FarePolicy farePolicy,
+            final PathFinderMetrics pathFinderMetrics,
+            @Value("${subway.routing.all-pairs.maximum-memory:48MB}") final DataSize allPairsMaximumMemory,
+            @Value("${subway.routing.all-pairs.off-heap:false}") final boolean allPairsOffHeap
+    ) {
+        return new PathFinderOptions(
+                allPairsMaximumMemory.toBytes(),
+                allPairsOffHeap,
+                farePolicy,
+                pathFinderMetrics,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    final Thread thread = new Thread(runnable, "path-preprocessor");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+        );
+    }
+}
@@ -19,7 +19,8 @@ public class LineDao implements Dao<LineEntity> {
             new LineEntity(
                     rs.getLong("id"),
                     rs.getString("name"),
-                    rs.getString("color")
+                    rs.getString("color"),
+                    rs.getLong("version")
             );
 
     public LineDao(JdbcTemplate jdbcTemplate) {
@@ -38,10 +39,17 @@ public class LineDao implements Dao<LineEntity> {
 
     @Override
     public void update(final LineEntity newLine) {
-        String sql = "UPDATE LINE SET name = ?, color = ? WHERE id = ?";
+        String sql = "UPDATE LINE SET name = ?, color = ?, version = version + 1 WHERE id = ?";
         jdbcTemplate.update(sql, newLine.getName(), newLine.getColor(), newLine.getId());
     }
 
+    public boolean updateIfVersionMatches(final LineEntity newLine) {
+        String sql = "UPDATE LINE SET name = ?, color = ?, version = version + 1 WHERE id = ? AND version = ?";
+        return jdbcTemplate.update(
+                sql, newLine.getName(), newLine.getColor(), newLine.getId(), newLine.getVersion()
+        ) == 1;
+    }
+
     @Override
     public void deleteById(final Long id) {
         jdbcTemplate.update("DELETE FROM Line WHERE id = ?", id);
@@ -49,7 +57,7 @@ public class LineDao implements Dao<LineEntity> {
 
     @Override
     public Optional<LineEntity> findById(final Long id) {
-        String sql = "SELECT id, name, color FROM LINE WHERE id = ?";
+        String sql = "SELECT id, name, color, version FROM LINE WHERE id = ?";
         try {
             return Optional.ofNullable(jdbcTemplate.queryForObject(sql, rowMapper, id));
         } catch (final EmptyResultDataAccessException e) {
@@ -59,12 +67,12 @@ public class LineDao implements Dao<LineEntity> {
 
     @Override
     public List<LineEntity> findAll() {
-        String sql = "SELECT id, name, color FROM LINE";
+        String sql = "SELECT id, name, color, version FROM LINE";
         return jdbcTemplate.query(sql, rowMapper);
     }
 
     public Optional<LineEntity> findByName(final String name) {
-        String sql = "SELECT id, name, color FROM LINE WHERE name = ?";
+        String sql = "SELECT id, name, color, version FROM LINE WHERE name = ?";
         try {
             return Optional.ofNullable(jdbcTemplate.queryForObject(sql, rowMapper, name));
         } catch (final EmptyResultDataAccessException e) {
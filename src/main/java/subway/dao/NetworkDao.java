@@ -0,0 +1,63 @@
+package subway.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import subway.dto.NetworkRecord;
+
+@Component
+public class NetworkDao {
+
+    private static final String SELECT_NETWORK = "SELECT l.name AS line_name, l.color, "
+            + "s.name AS start_name, e.name AS end_name, sec.distance "
+            + "FROM line l "
+            + "LEFT JOIN section sec ON sec.line_id = l.id "
+            + "LEFT JOIN station s ON s.id = sec.start_station_id "
+            + "LEFT JOIN station e ON e.id = sec.end_station_id "
+            + "ORDER BY l.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public NetworkDao(
+            final JdbcTemplate jdbcTemplate,
+            @Value("${subway.export.fetch-size:1000}") final int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    public void forEachRecord(final Consumer<NetworkRecord> consumer) {
+        final PreparedStatementCreator statementCreator = connection -> {
+            final PreparedStatement statement = connection.prepareStatement(
+                    SELECT_NETWORK,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+            );
+            statement.setFetchSize(fetchSize);
+            return statement;
+        };
+        final RowCallbackHandler rowCallbackHandler = rs -> consumer.accept(toRecord(rs));
+        jdbcTemplate.query(statementCreator, rowCallbackHandler);
+    }
+
+    private NetworkRecord toRecord(final ResultSet rs) throws SQLException {
+        final String startName = rs.getString("start_name");
+        if (startName == null) {
+            return NetworkRecord.ofLine(rs.getString("line_name"), rs.getString("color"));
+        }
+        return new NetworkRecord(
+                rs.getString("line_name"),
+                rs.getString("color"),
+                startName,
+                rs.getString("end_name"),
+                rs.getInt("distance")
+        );
+    }
+}
@@ -15,8 +15,8 @@ public class SectionDao implements Dao<SectionEntity> {
     private final RowMapper<SectionEntity> rowMapper = (rs, rowNum) ->
             new SectionEntity(
                     rs.getLong("id"),
-                    rs.getString("start_station_name"),
-                    rs.getString("end_station_name"),
+                    rs.getLong("start_station_id"),
+                    rs.getLong("end_station_id"),
                     rs.getInt("distance"),
                     rs.getLong("line_id")
             );
@@ -32,7 +32,7 @@ public class SectionDao implements Dao<SectionEntity> {
 
     @Override
     public void update(SectionEntity sectionEntity) {
-        throw new UnsupportedOperationException();
+        updateAll(List.of(sectionEntity));
     }
 
     @Override
@@ -43,11 +43,7 @@ public class SectionDao implements Dao<SectionEntity> {
 
     @Override
     public Optional<SectionEntity> findById(Long id) {
-        String sql = "SELECT s.id, s1.name AS start_station_name, s2.name AS end_station_name, distance, s.line_id "
-                + "FROM section s "
-                + "JOIN station s1 ON s.start_station_id = s1.id "
-                + "JOIN station s2 ON s.end_station_id = s2.id"
-                + "WEHRE id = ?";
+        final String sql = "SELECT id, start_station_id, end_station_id, distance, line_id FROM section WHERE id = ?";
         try {
             return Optional.ofNullable(jdbcTemplate.queryForObject(sql, rowMapper, id));
         } catch (final EmptyResultDataAccessException e) {
@@ -57,42 +53,65 @@ public class SectionDao implements Dao<SectionEntity> {
 
     @Override
     public List<SectionEntity> findAll() {
-        final String sql =
-                "SELECT s.id, s1.name AS start_station_name, s2.name AS end_station_name, distance, s.line_id "
-                        + "FROM section s "
-                        + "JOIN station s1 ON s.start_station_id = s1.id "
-                        + "JOIN station s2 ON s.end_station_id = s2.id";
+        final String sql = "SELECT id, start_station_id, end_station_id, distance, line_id FROM section";
         return jdbcTemplate.query(sql, rowMapper);
     }
 
     public void insertAll(final List<SectionEntity> sections) {
-        final String sql = "INSERT INTO section (start_station_id, end_station_id, distance, line_id) VALUES ("
-                + "(SELECT id FROM station WHERE name = ? and line_id = ?), "
-                + "(SELECT id FROM station WHERE name = ? and line_id = ?), "
-                + "?, "
-                + "?)";
+        if (sections.isEmpty()) {
+            return;
+        }
+        final String sql = "INSERT INTO section (start_station_id, end_station_id, distance, line_id) "
+                + "VALUES (?, ?, ?, ?)";
         jdbcTemplate.batchUpdate(sql, sections, sections.size(), ((ps, section) -> {
-            ps.setString(1, section.getStartStationName());
-            ps.setLong(2, section.getLineId());
-            ps.setString(3, section.getEndStationName());
+            ps.setLong(1, section.getStartStationId());
+            ps.setLong(2, section.getEndStationId());
+            ps.setInt(3, section.getDistance());
             ps.setLong(4, section.getLineId());
-            ps.setInt(5, section.getDistance());
-            ps.setLong(6, section.getLineId());
         }));
     }
 
+    public void updateAll(final List<SectionEntity> sections) {
+        if (sections.isEmpty()) {
+            return;
+        }
+        final String sql = "UPDATE section SET start_station_id = ?, end_station_id = ?, distance = ? WHERE id = ?";
+        jdbcTemplate.batchUpdate(sql, sections, sections.size(), ((ps, section) -> {
+            ps.setLong(1, section.getStartStationId());
+            ps.setLong(2, section.getEndStationId());
+            ps.setInt(3, section.getDistance());
+            ps.setLong(4, section.getId());
+        }));
+    }
+
+    public void deleteAllById(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final String sql = "DELETE FROM section WHERE id = ?";
+        jdbcTemplate.batchUpdate(sql, ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+
     public void deleteAll(final Long lineId) {
         final String sql = "DELETE FROM section WHERE line_id = ?";
         jdbcTemplate.update(sql, lineId);
     }
 
     public List<SectionEntity> findByLineId(final Long lineId) {
-        final String sql =
-                "SELECT s.id, s1.name AS start_station_name, s2.name AS end_station_name, distance, s.line_id "
-                        + "FROM section s "
-                        + "JOIN station s1 ON s.start_station_id = s1.id "
-                        + "JOIN station s2 ON s.end_station_id = s2.id "
-                        + "WHERE s.line_id = ?";
+        final String sql = "SELECT id, start_station_id, end_station_id, distance, line_id "
+                + "FROM section WHERE line_id = ?";
         return jdbcTemplate.query(sql, rowMapper, lineId);
     }
+
+    public boolean existsByStationIdsExcludingLine(
+            final Long startStationId,
+            final Long endStationId,
+            final String excludedLineName
+    ) {
+        final String sql = "SELECT EXISTS (SELECT 1 FROM section sec JOIN line l ON l.id = sec.line_id "
+                + "WHERE sec.start_station_id = ? AND sec.end_station_id = ? AND l.name <> ?)";
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(sql, Boolean.class, startStationId, endStationId, excludedLineName)
+        );
+    }
 }
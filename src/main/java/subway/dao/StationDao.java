@@ -1,5 +1,8 @@
 package subway.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -14,13 +17,14 @@ import subway.entity.StationEntity;
 @Component
 public class StationDao implements Dao<StationEntity> {
 
+    private static final int IN_CLAUSE_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert insertAction;
     private final RowMapper<StationEntity> rowMapper = (rs, rowNum) ->
             new StationEntity(
                     rs.getLong("id"),
-                    rs.getString("name"),
-                    rs.getLong("line_id")
+                    rs.getString("name")
             );
 
 
@@ -35,7 +39,7 @@ public class StationDao implements Dao<StationEntity> {
     public StationEntity insert(StationEntity station) {
         SqlParameterSource params = new BeanPropertySqlParameterSource(station);
         Long id = insertAction.executeAndReturnKey(params).longValue();
-        return new StationEntity(id, station.getName(), station.getLineId());
+        return new StationEntity(id, station.getName());
     }
 
     @Override
@@ -67,14 +71,30 @@ public class StationDao implements Dao<StationEntity> {
     }
 
     public void insertAll(final List<StationEntity> stations) {
+        if (stations.isEmpty()) {
+            return;
+        }
         final BeanPropertySqlParameterSource[] parameterSources = stations.stream()
                 .map(BeanPropertySqlParameterSource::new)
                 .toArray(BeanPropertySqlParameterSource[]::new);
         insertAction.executeBatch(parameterSources);
     }
 
-    public void deleteByLineId(final Long lineId) {
-        String sql = "DELETE FROM STATION WHERE line_id = ?";
-        jdbcTemplate.update(sql, lineId);
+    public List<StationEntity> findAllByName(final Collection<String> names) {
+        return findAllIn("SELECT * FROM STATION WHERE name IN ", new ArrayList<>(names));
+    }
+
+    public List<StationEntity> findAllById(final Collection<Long> ids) {
+        return findAllIn("SELECT * FROM STATION WHERE id IN ", new ArrayList<>(ids));
+    }
+
+    private List<StationEntity> findAllIn(final String sql, final List<?> values) {
+        final List<StationEntity> stations = new ArrayList<>(values.size());
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_SIZE) {
+            final List<?> chunk = values.subList(from, Math.min(from + IN_CLAUSE_SIZE, values.size()));
+            final String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            stations.addAll(jdbcTemplate.query(sql + "(" + placeholders + ")", rowMapper, chunk.toArray()));
+        }
+        return stations;
     }
 }
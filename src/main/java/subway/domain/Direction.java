@@ -1,6 +1,5 @@
 package subway.domain;
 
-import java.util.List;
 import subway.domain.strategy.AddStationLeftStrategy;
 import subway.domain.strategy.AddStationRightStrategy;
 import subway.domain.strategy.AddStationStrategy;
@@ -17,7 +16,7 @@ public enum Direction {
     }
 
     public void addStation(
-            final List<Section> sections,
+            final Sections sections,
             final Station base,
             final Station additional,
             final Distance distance
@@ -1,11 +1,18 @@
 package subway.domain;
 
-import java.util.Objects;
 import subway.exception.DistanceNotValidException;
 
 public class Distance implements Comparable<Distance> {
 
     private static final int MINIMUM_DISTANCE_VALUE = 1;
+    private static final int MAXIMUM_CACHED_VALUE = 1024;
+    private static final Distance[] CACHE = new Distance[MAXIMUM_CACHED_VALUE + 1];
+
+    static {
+        for (int value = MINIMUM_DISTANCE_VALUE; value <= MAXIMUM_CACHED_VALUE; value++) {
+            CACHE[value] = new Distance(value);
+        }
+    }
 
     private final int value;
 
@@ -14,29 +21,30 @@ public class Distance implements Comparable<Distance> {
         this.value = value;
     }
 
-    private void validate(final int value) {
+    public static Distance valueOf(final int value) {
+        if (value >= MINIMUM_DISTANCE_VALUE && value <= MAXIMUM_CACHED_VALUE) {
+            return CACHE[value];
+        }
+        return new Distance(value);
+    }
+
+    private static void validate(final int value) {
         if (value < MINIMUM_DISTANCE_VALUE) {
             throw new DistanceNotValidException();
         }
     }
 
     public Distance subtract(final Distance distance) {
-        return new Distance(value - distance.value);
+        return valueOf(value - distance.value);
     }
 
     public Distance add(final Distance distance) {
-        return new Distance(value + distance.value);
+        return valueOf(value + distance.value);
     }
 
     @Override
     public int compareTo(final Distance comparedDistance) {
-        if (this.value > comparedDistance.value) {
-            return 1;
-        }
-        else if (this.value == comparedDistance.value) {
-            return 0;
-        }
-        return -1;
+        return Integer.compare(value, comparedDistance.value);
     }
 
     @Override
@@ -53,7 +61,7 @@ public class Distance implements Comparable<Distance> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Integer.hashCode(value);
     }
 
     @Override
@@ -1,44 +1,63 @@
 package subway.domain;
 
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
 import static subway.domain.Direction.LEFT;
 import static subway.domain.Direction.RIGHT;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.function.Function;
 import subway.exception.InvalidSectionException;
 import subway.exception.LineNotEmptyException;
 import subway.exception.StationNotFoundException;
 
 public class Line {
 
-    private static final int EXIST_ONLY_ONE_SECTION = 1;
-
     private final String name;
     private final String color;
-    private final List<Section> sections;
+    private final Sections sections;
+    private List<Station> stations;
+    private long version;
 
     public Line(final String name, final String color, final List<Section> sections) {
+        this(name, color, sections, 0L);
+    }
+
+    public Line(final String name, final String color, final List<Section> sections, final long version) {
         this.name = name;
         this.color = color;
-        this.sections = new ArrayList<>(sections);
+        this.sections = new Sections(sections);
+        this.stations = orderStations();
+        this.version = version;
+    }
+
+    public static Line connected(final String name, final String color, final List<Section> sections) {
+        final Line line = new Line(name, color, sections);
+        if (!line.isConnected(sections.size())) {
+            throw new InvalidSectionException("노선의 구간이 하나로 이어져 있지 않습니다.");
+        }
+        return line;
+    }
+
+    private boolean isConnected(final int sectionCount) {
+        if (sectionCount == 0) {
+            return true;
+        }
+        return sections.size() == sectionCount && new HashSet<>(findAllStation()).size() == sectionCount + 1;
+    }
+
+    public List<Section> findSectionsAround(final Station station) {
+        return sections.findAround(station);
     }
 
     public boolean containsAll(final Station start, final Station end) {
-        return sections.stream()
-                .anyMatch(section -> section.containsAll(start, end));
+        return sections.containsAll(start, end);
     }
 
     public void add(final Station base, final Station additional, final Distance distance, final Direction direction) {
         validate(base, additional, distance, direction);
         direction.addStation(sections, base, additional, distance);
+        stations = null;
     }
 
     private void validate(
@@ -47,10 +66,10 @@ public class Line {
             final Distance distance,
             final Direction direction
     ) {
-        if (!contains(base)) {
+        if (!sections.contains(base)) {
             throw new InvalidSectionException("기준역이 존재하지 않습니다.");
         }
-        if (contains(additional)) {
+        if (sections.contains(additional)) {
             throw new InvalidSectionException("등록할 역이 이미 존재합니다.");
         }
         if (isNotValidDistanceToAddRight(base, distance, direction)
@@ -67,8 +86,8 @@ public class Line {
         if (direction == LEFT) {
             return false;
         }
-        final Optional<Section> findSection = findSection(section -> section.isStart(base));
-        return findSection.map(section -> section.canNotAddStationInMiddle(distance))
+        return sections.findByStart(base)
+                .map(section -> section.canNotAddStationInMiddle(distance))
                 .orElse(false);
     }
 
@@ -80,75 +99,40 @@ public class Line {
         if (direction == RIGHT) {
             return false;
         }
-        final Optional<Section> findSection = findSection(section -> section.isEnd(base));
-        return findSection.map(section -> section.canNotAddStationInMiddle(distance))
+        return sections.findByEnd(base)
+                .map(section -> section.canNotAddStationInMiddle(distance))
                 .orElse(false);
     }
 
-    private Optional<Section> findSection(final Function<Section, Boolean> filter) {
-        return sections.stream()
-                .filter(filter::apply)
-                .findFirst();
-    }
-
-    private List<Section> findAllSections(final Function<Section, Boolean> filter) {
-        return sections.stream()
-                .filter(filter::apply)
-                .collect(toList());
-    }
-
     public void remove(final Station station) {
-        if (!contains(station)) {
+        if (!sections.contains(station)) {
             throw new StationNotFoundException();
         }
-        final List<Section> findSections = findAllSections(section -> section.contains(station));
-        if (findSections.size() == EXIST_ONLY_ONE_SECTION) {
-            sections.remove(findSections.get(0));
-            return;
+        final Optional<Section> upSection = sections.findByEnd(station);
+        final Optional<Section> downSection = sections.findByStart(station);
+        if (upSection.isPresent() && downSection.isPresent()) {
+            removeMiddleStation(upSection.get(), downSection.get());
+        } else {
+            upSection.or(() -> downSection).ifPresent(sections::remove);
         }
-        removeMiddleStation(findSections, station);
+        stations = null;
     }
 
-    private void removeMiddleStation(final List<Section> findSections, final Station station) {
-        final Section section = findSections.get(0);
-        final Section otherSection = findSections.get(1);
-        sections.remove(section);
-        sections.remove(otherSection);
-        if (section.isEnd(station)) {
-            sections.add(new Section(section.getStart(), otherSection.getEnd(), section.add(otherSection.getDistance())));
-            return;
-        }
-        sections.add(new Section(otherSection.getStart(), section.getEnd(), otherSection.add(section.getDistance())));
-    }
-
-    private boolean contains(final Station station) {
-        return sections.stream()
-                .anyMatch(section -> section.contains(station));
+    private void removeMiddleStation(final Section upSection, final Section downSection) {
+        sections.remove(upSection);
+        sections.remove(downSection);
+        sections.add(new Section(upSection.getStart(), downSection.getEnd(), upSection.add(downSection.getDistance())));
     }
 
     public List<Station> findAllStation() {
-        final Map<Station, Station> stationToStation = sections.stream()
-                .collect(toMap(Section::getStart, Section::getEnd));
-
-        final Optional<Station> firstStation = findFirstStation(stationToStation);
-        return firstStation.map(station -> orderStations(stationToStation, station))
-                .orElse(Collections.emptyList());
-    }
-
-    private Optional<Station> findFirstStation(final Map<Station, Station> stationToStation) {
-        final Set<Station> stations = new HashSet<>(stationToStation.keySet());
-        stations.removeAll(stationToStation.values());
-        return stations.stream().findFirst();
+        if (stations == null) {
+            stations = orderStations();
+        }
+        return stations;
     }
 
-    private List<Station> orderStations(final Map<Station, Station> stationToStation, Station station) {
-        final List<Station> result = new ArrayList<>(List.of(station));
-        while (stationToStation.containsKey(station)) {
-            final Station next = stationToStation.get(station);
-            result.add(next);
-            station = next;
-        }
-        return result;
+    private List<Station> orderStations() {
+        return Collections.unmodifiableList(sections.findAllStation());
     }
 
     public void initialAdd(final Station left, final Station right, final Distance distance) {
@@ -156,6 +140,11 @@ public class Line {
             throw new LineNotEmptyException();
         }
         sections.add(new Section(left, right, distance));
+        stations = null;
+    }
+
+    public void increaseVersion() {
+        version++;
     }
 
     public boolean isSameName(final String lineName) {
@@ -163,8 +152,11 @@ public class Line {
     }
 
     public boolean hasStation(String startStationName) {
-        return sections.stream()
-                .anyMatch(section -> section.contains(startStationName));
+        return contains(new Station(startStationName));
+    }
+
+    public boolean contains(final Station station) {
+        return sections.contains(station);
     }
 
     @Override
@@ -185,6 +177,10 @@ public class Line {
     }
 
     public List<Section> getSections() {
-        return sections;
+        return sections.toList();
+    }
+
+    public long getVersion() {
+        return version;
     }
 }
@@ -9,7 +9,7 @@ public class Section {
     private final Distance distance;
 
     public Section(final String start, final String end, final int distance) {
-        this(new Station(start), new Station(end), new Distance(distance));
+        this(new Station(start), new Station(end), Distance.valueOf(distance));
     }
 
     public Section(final Station start, final Station end, final Distance distance) {
@@ -0,0 +1,73 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SectionChanges {
+
+    private final Map<Section, Integer> counts = new HashMap<>();
+
+    public static SectionChanges added(final List<Section> sections) {
+        final SectionChanges changes = new SectionChanges();
+        sections.forEach(changes::add);
+        return changes;
+    }
+
+    public static SectionChanges removed(final List<Section> sections) {
+        final SectionChanges changes = new SectionChanges();
+        sections.forEach(changes::remove);
+        return changes;
+    }
+
+    public void add(final Section section) {
+        merge(section, 1);
+    }
+
+    public void remove(final Section section) {
+        merge(section, -1);
+    }
+
+    public void addAll(final SectionChanges other) {
+        other.counts.forEach(this::merge);
+    }
+
+    private void merge(final Section section, final int count) {
+        counts.merge(section, count, (origin, added) -> {
+            final int sum = origin + added;
+            return sum == 0 ? null : sum;
+        });
+    }
+
+    public List<Section> getAddedSections() {
+        return collect(1);
+    }
+
+    public List<Section> getRemovedSections() {
+        return collect(-1);
+    }
+
+    private List<Section> collect(final int sign) {
+        final List<Section> result = new ArrayList<>();
+        counts.forEach((section, count) -> {
+            if (Integer.signum(count) == sign) {
+                result.addAll(Collections.nCopies(Math.abs(count), section));
+            }
+        });
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "SectionChanges{" +
+                "added=" + getAddedSections() +
+                ", removed=" + getRemovedSections() +
+                '}';
+    }
+}
@@ -0,0 +1,9 @@
+package subway.domain;
+
+@FunctionalInterface
+public interface SectionIndex {
+
+    SectionIndex EMPTY = (start, end) -> false;
+
+    boolean containsEither(Station start, Station end);
+}
@@ -0,0 +1,122 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class Sections {
+
+    private final Map<Station, Section> sectionByStart = new HashMap<>();
+    private final Map<Station, Section> sectionByEnd = new HashMap<>();
+    private final Map<Station, Station> nextStation = new HashMap<>();
+    private final Map<Station, Station> previousStation = new HashMap<>();
+
+    public Sections(final List<Section> sections) {
+        sections.forEach(this::link);
+    }
+
+    public Optional<Section> findByStart(final Station station) {
+        return Optional.ofNullable(sectionByStart.get(station));
+    }
+
+    public Optional<Section> findByEnd(final Station station) {
+        return Optional.ofNullable(sectionByEnd.get(station));
+    }
+
+    public List<Section> findAround(final Station station) {
+        final List<Section> sections = new ArrayList<>(2);
+        findByEnd(station).ifPresent(sections::add);
+        findByStart(station).ifPresent(sections::add);
+        return sections;
+    }
+
+    public boolean contains(final Station station) {
+        return sectionByStart.containsKey(station) || sectionByEnd.containsKey(station);
+    }
+
+    public boolean containsAll(final Station start, final Station end) {
+        return isConnected(start, end) || isConnected(end, start);
+    }
+
+    private boolean isConnected(final Station start, final Station end) {
+        final Section section = sectionByStart.get(start);
+        return section != null && section.isEnd(end);
+    }
+
+    public void add(final Section section) {
+        link(section);
+    }
+
+    public void remove(final Section section) {
+        if (sectionByStart.remove(section.getStart(), section)) {
+            nextStation.remove(section.getStart());
+        }
+        if (sectionByEnd.remove(section.getEnd(), section)) {
+            previousStation.remove(section.getEnd());
+        }
+    }
+
+    private void link(final Section section) {
+        sectionByStart.put(section.getStart(), section);
+        sectionByEnd.put(section.getEnd(), section);
+        nextStation.put(section.getStart(), section.getEnd());
+        previousStation.put(section.getEnd(), section.getStart());
+    }
+
+    public List<Station> findAllStation() {
+        final Optional<Station> firstStation = findFirstStation();
+        if (firstStation.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Station> stations = new ArrayList<>(nextStation.size() + 1);
+        Station station = firstStation.get();
+        stations.add(station);
+        Station next = nextStation.get(station);
+        while (next != null && stations.size() <= nextStation.size()) {
+            stations.add(next);
+            next = nextStation.get(next);
+        }
+        return stations;
+    }
+
+    private Optional<Station> findFirstStation() {
+        return nextStation.keySet().stream()
+                .filter(station -> !previousStation.containsKey(station))
+                .findFirst();
+    }
+
+    public boolean isEmpty() {
+        return sectionByStart.isEmpty();
+    }
+
+    public int size() {
+        return sectionByStart.size();
+    }
+
+    public List<Section> toList() {
+        final List<Section> sections = new ArrayList<>(sectionByStart.size());
+        for (Station station : findAllStation()) {
+            final Section section = sectionByStart.get(station);
+            if (section != null) {
+                sections.add(section);
+            }
+        }
+        if (sections.size() < sectionByStart.size()) {
+            final Set<Section> ordered = new HashSet<>(sections);
+            sectionByStart.values().stream()
+                    .filter(section -> !ordered.contains(section))
+                    .forEach(sections::add);
+        }
+        return sections;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -1,12 +1,16 @@
 package subway.domain;
 
-import java.util.Objects;
-
 public class Station {
 
+    private final Long id;
     private final String name;
 
     public Station(final String name) {
+        this(null, name);
+    }
+
+    public Station(final Long id, final String name) {
+        this.id = id;
         this.name = name;
     }
 
@@ -23,12 +27,12 @@ public class Station {
             return false;
         }
         final Station station = (Station) o;
-        return Objects.equals(name, station.name);
+        return name.equals(station.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return name.hashCode();
     }
 
     @Override
@@ -38,6 +42,10 @@ public class Station {
                 '}';
     }
 
+    public Long getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
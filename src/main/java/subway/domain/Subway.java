@@ -1,16 +1,51 @@
 package subway.domain;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import subway.exception.DuplicateLineNameException;
 import subway.exception.InvalidSectionException;
 import subway.exception.LineNotFoundException;
 
 public class Subway {
 
     private final List<Line> lines;
+    private final Map<String, Line> lineByName = new HashMap<>();
+    private final Map<Station, Set<Line>> linesByStation = new HashMap<>();
+    private final Map<String, Station> stationByName = new HashMap<>();
+    private final Map<List<Station>, List<Section>> sectionsByStationPair = new HashMap<>();
+    private final SectionIndex otherLineSections;
 
     public Subway(final List<Line> lines) {
+        this(lines, SectionIndex.EMPTY);
+    }
+
+    public Subway(final List<Line> lines, final SectionIndex otherLineSections) {
         this.lines = new ArrayList<>(lines);
+        this.otherLineSections = otherLineSections;
+        lines.forEach(this::index);
+    }
+
+    private void index(final Line line) {
+        lineByName.putIfAbsent(line.getName(), line);
+        line.findAllStation().forEach(station -> indexStation(line, station));
+        line.getSections().forEach(this::indexSection);
+    }
+
+    public void addLine(final Line line) {
+        if (lineByName.containsKey(line.getName())) {
+            throw new DuplicateLineNameException();
+        }
+        for (Section section : line.getSections()) {
+            validateExistLine(section.getStart(), section.getEnd());
+        }
+        lines.add(line);
+        index(line);
     }
 
     public void add(
@@ -20,19 +55,27 @@ public class Subway {
             final int distanceValue,
             final Direction direction
     ) {
-        final Station base = new Station(baseStationName);
-        final Station additional = new Station(additionalStationName);
-        final Distance distance = new Distance(distanceValue);
+        final Station base = findStation(baseStationName);
+        final Station additional = findStation(additionalStationName);
+        final Distance distance = Distance.valueOf(distanceValue);
 
         validateExistLine(base, additional);
 
         final Line findLine = findLineByLineName(lineName);
+        final Set<Station> affectedStations = findStationsAround(findLine, base);
+        affectedStations.add(additional);
+        final Set<Section> previousSections = findSectionsAround(findLine, affectedStations);
         findLine.add(base, additional, distance, direction);
+        reindex(findLine, affectedStations, previousSections);
     }
 
     public void remove(final String lineName, final String stationName) {
         final Line findLine = findLineByLineName(lineName);
-        findLine.remove(new Station(stationName));
+        final Station station = findStation(stationName);
+        final Set<Station> affectedStations = findStationsAround(findLine, station);
+        final Set<Section> previousSections = findSectionsAround(findLine, affectedStations);
+        findLine.remove(station);
+        reindex(findLine, affectedStations, previousSections);
     }
 
     public void initialAdd(
@@ -44,30 +87,115 @@ public class Subway {
         if (leftStationName.equals(rightStationName)) {
             throw new InvalidSectionException("동일한 이름을 가진 역을 구간에 추가할 수 없습니다.");
         }
-        final Station left = new Station(leftStationName);
-        final Station right = new Station(rightStationName);
-        final Distance distance = new Distance(distanceValue);
+        final Station left = findStation(leftStationName);
+        final Station right = findStation(rightStationName);
+        final Distance distance = Distance.valueOf(distanceValue);
 
         validateExistLine(left, right);
 
         final Line findLine = findLineByLineName(lineName);
         findLine.initialAdd(left, right, distance);
+        reindex(findLine, Set.of(left, right), Collections.emptySet());
+    }
+
+    private Station findStation(final String stationName) {
+        final Station station = stationByName.get(stationName);
+        if (station == null) {
+            return new Station(stationName);
+        }
+        return station;
     }
 
     private void validateExistLine(final Station base, final Station additional) {
-        if (lines.stream().anyMatch(line -> line.containsAll(base, additional))) {
+        if (sectionsByStationPair.containsKey(toStationPair(base, additional))
+                || otherLineSections.containsEither(base, additional)) {
             throw new InvalidSectionException("지하철 전체 노선에 이미 존재하는 구간입니다.");
         }
     }
 
+    private Set<Station> findStationsAround(final Line line, final Station station) {
+        final Set<Station> stations = new LinkedHashSet<>();
+        stations.add(station);
+        for (Section section : line.findSectionsAround(station)) {
+            stations.add(section.getStart());
+            stations.add(section.getEnd());
+        }
+        return stations;
+    }
+
+    private Set<Section> findSectionsAround(final Line line, final Set<Station> stations) {
+        final Set<Section> sections = new HashSet<>();
+        stations.forEach(station -> sections.addAll(line.findSectionsAround(station)));
+        return sections;
+    }
+
+    private void reindex(final Line line, final Set<Station> affectedStations, final Set<Section> previousSections) {
+        previousSections.forEach(this::unindexSection);
+        findSectionsAround(line, affectedStations).forEach(this::indexSection);
+        for (Station station : affectedStations) {
+            if (line.contains(station)) {
+                indexStation(line, station);
+                continue;
+            }
+            unindexStation(line, station);
+        }
+    }
+
+    private void indexStation(final Line line, final Station station) {
+        linesByStation.computeIfAbsent(station, ignored -> new LinkedHashSet<>()).add(line);
+        stationByName.putIfAbsent(station.getName(), station);
+    }
+
+    private void unindexStation(final Line line, final Station station) {
+        final Set<Line> stationLines = linesByStation.computeIfPresent(station, (ignored, lines) -> {
+            lines.remove(line);
+            return lines.isEmpty() ? null : lines;
+        });
+        if (stationLines == null) {
+            stationByName.remove(station.getName());
+        }
+    }
+
+    private void indexSection(final Section section) {
+        sectionsByStationPair.computeIfAbsent(toStationPair(section), ignored -> new ArrayList<>())
+                .add(section);
+    }
+
+    private void unindexSection(final Section section) {
+        sectionsByStationPair.computeIfPresent(toStationPair(section), (ignored, sections) -> {
+            sections.remove(section);
+            return sections.isEmpty() ? null : sections;
+        });
+    }
+
+    private List<Station> toStationPair(final Section section) {
+        return toStationPair(section.getStart(), section.getEnd());
+    }
+
+    private List<Station> toStationPair(final Station start, final Station end) {
+        if (start.getName().compareTo(end.getName()) > 0) {
+            return List.of(end, start);
+        }
+        return List.of(start, end);
+    }
+
     public Line findLineByLineName(final String lineName) {
-        return lines.stream()
-                .filter(line -> line.isSameName(lineName))
-                .findFirst()
-                .orElseThrow(LineNotFoundException::new);
+        final Line line = lineByName.get(lineName);
+        if (line == null) {
+            throw new LineNotFoundException();
+        }
+        return line;
+    }
+
+    public boolean containsStation(final Station station) {
+        return linesByStation.containsKey(station);
+    }
+
+    public Set<Line> findLinesByStation(final Station station) {
+        return Collections.unmodifiableSet(linesByStation.getOrDefault(station, Collections.emptySet()));
     }
 
     public List<Line> getLines() {
-        return lines;
+        return Collections.unmodifiableList(lines);
     }
 }
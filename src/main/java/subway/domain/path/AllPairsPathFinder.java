@@ -0,0 +1,104 @@
+package subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.SectionChanges;
+import subway.domain.Subway;
+
+public class AllPairsPathFinder implements UpdatablePathFinder {
+
+    private static final long BYTES_PER_PAIR = Integer.BYTES * 3L;
+
+    private final PathFinderOptions options;
+    private final List<Section> sections;
+    private volatile PathFinder delegate;
+    private CompletableFuture<Void> preprocessing = CompletableFuture.completedFuture(null);
+    private long version;
+
+    public AllPairsPathFinder(final Subway subway) {
+        this(subway, PathFinderOptions.DEFAULT);
+    }
+
+    public AllPairsPathFinder(final Subway subway, final PathFinderOptions options) {
+        this.options = options;
+        this.sections = new ArrayList<>();
+        for (Line line : subway.getLines()) {
+            sections.addAll(line.getSections());
+        }
+        this.delegate = build(sections);
+    }
+
+    static long estimateMemoryBytes(final int stationCount) {
+        return (long) stationCount * stationCount * BYTES_PER_PAIR;
+    }
+
+    private PathFinder build(final List<Section> sections) {
+        final CompressedGraph graph = new CompressedGraph(sections);
+        if (estimateMemoryBytes(graph.stationCount()) > options.getAllPairsMaximumMemoryBytes()) {
+            return new CsrPathFinder(sections, graph);
+        }
+        return new AllPairsTable(graph, options.getFarePolicy(), options.isAllPairsOffHeap());
+    }
+
+    @Override
+    public Path find(final String startStationName, final String endStationName) {
+        return delegate.find(startStationName, endStationName);
+    }
+
+    @Override
+    public void apply(final SectionChanges changes) {
+        apply(changes, () -> {
+        });
+    }
+
+    @Override
+    public synchronized void apply(final SectionChanges changes, final Runnable onPublished) {
+        changes.getRemovedSections().forEach(sections::remove);
+        sections.addAll(changes.getAddedSections());
+
+        final long requestedVersion = ++version;
+        final List<Section> snapshot = new ArrayList<>(sections);
+        preprocessing = CompletableFuture.runAsync(
+                () -> preprocess(requestedVersion, snapshot, onPublished),
+                options.getPreprocessor()
+        );
+    }
+
+    private void preprocess(final long requestedVersion, final List<Section> snapshot, final Runnable onPublished) {
+        if (isOutdated(requestedVersion)) {
+            return;
+        }
+        final PathFinder rebuilt = build(snapshot);
+        synchronized (this) {
+            if (isOutdated(requestedVersion)) {
+                return;
+            }
+            delegate = rebuilt;
+        }
+        onPublished.run();
+    }
+
+    private synchronized boolean isOutdated(final long requestedVersion) {
+        return requestedVersion != version;
+    }
+
+    public void awaitPreprocessing() {
+        final CompletableFuture<Void> pending;
+        synchronized (this) {
+            pending = preprocessing;
+        }
+        pending.join();
+    }
+
+    @Override
+    public synchronized List<Section> getSections() {
+        return new ArrayList<>(sections);
+    }
+
+    public boolean isPrecomputed() {
+        return delegate instanceof AllPairsTable;
+    }
+}
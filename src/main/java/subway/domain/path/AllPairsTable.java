@@ -0,0 +1,80 @@
+package subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import subway.domain.Station;
+import subway.domain.fare.FarePolicy;
+import subway.exception.PathNotFoundException;
+import subway.exception.StationNotFoundException;
+
+final class AllPairsTable implements PathFinder {
+
+    private static final ThreadLocal<DijkstraScratch> SCRATCH = ThreadLocal.withInitial(DijkstraScratch::new);
+    private static final int UNREACHABLE = -1;
+
+    private final CompressedGraph graph;
+    private final int stationCount;
+    private final IntMatrix distances;
+    private final IntMatrix nextHops;
+    private final IntMatrix fares;
+
+    AllPairsTable(final CompressedGraph graph, final FarePolicy farePolicy, final boolean offHeap) {
+        this.graph = graph;
+        this.stationCount = graph.stationCount();
+        final int size = Math.multiplyExact(stationCount, stationCount);
+        this.distances = IntMatrix.allocate(size, offHeap);
+        this.nextHops = IntMatrix.allocate(size, offHeap);
+        this.fares = IntMatrix.allocate(size, offHeap);
+
+        ForkJoinPool.commonPool()
+                .submit(() -> IntStream.range(0, stationCount).parallel().forEach(source -> fill(source, farePolicy)))
+                .join();
+    }
+
+    private void fill(final int source, final FarePolicy farePolicy) {
+        final DijkstraScratch scratch = SCRATCH.get();
+        scratch.prepare(stationCount);
+        scratch.discover(source, 0, source);
+
+        final int row = source * stationCount;
+        for (int target = 0; target < stationCount; target++) {
+            distances.set(row + target, UNREACHABLE);
+        }
+        while (!scratch.isEmpty()) {
+            final int station = scratch.poll();
+            final int distance = scratch.distanceOf(station);
+            final int previous = scratch.previousOf(station);
+            distances.set(row + station, distance);
+            nextHops.set(row + station, previous == source ? station : nextHops.get(row + previous));
+            if (station != source) {
+                fares.set(row + station, farePolicy.calculate(distance));
+            }
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                scratch.relax(graph.target(edge), distance + graph.weight(edge), station);
+            }
+        }
+        nextHops.set(row + source, source);
+    }
+
+    @Override
+    public Path find(final String startStationName, final String endStationName) {
+        final Integer source = graph.idOf(startStationName);
+        final Integer target = graph.idOf(endStationName);
+        if (source == null || target == null) {
+            throw new StationNotFoundException();
+        }
+        final int index = source * stationCount + target;
+        if (distances.get(index) == UNREACHABLE) {
+            throw new PathNotFoundException();
+        }
+
+        final List<Station> stations = new ArrayList<>();
+        stations.add(graph.stationOf(source));
+        for (int station = source; station != target; station = nextHops.get(station * stationCount + target)) {
+            stations.add(graph.stationOf(nextHops.get(station * stationCount + target)));
+        }
+        return new Path(stations, distances.get(index), fares.get(index));
+    }
+}
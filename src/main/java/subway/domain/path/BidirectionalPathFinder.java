@@ -0,0 +1,78 @@
+package subway.domain.path;
+
+import java.util.Arrays;
+import java.util.List;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.exception.PathNotFoundException;
+
+public class BidirectionalPathFinder extends CompressedPathFinder {
+
+    private static final ThreadLocal<DijkstraScratch> FORWARD = ThreadLocal.withInitial(DijkstraScratch::new);
+    private static final ThreadLocal<DijkstraScratch> BACKWARD = ThreadLocal.withInitial(DijkstraScratch::new);
+    private static final int NOT_MET = -1;
+
+    public BidirectionalPathFinder(final Subway subway) {
+        super(subway);
+    }
+
+    @Override
+    protected Path find(final CompressedGraph graph, final int source, final int target) {
+        final DijkstraScratch forward = FORWARD.get();
+        final DijkstraScratch backward = BACKWARD.get();
+        forward.prepare(graph.stationCount());
+        backward.prepare(graph.stationCount());
+        forward.discover(source, 0, source);
+        backward.discover(target, 0, target);
+
+        int meeting = source == target ? source : NOT_MET;
+        int shortestDistance = source == target ? 0 : Integer.MAX_VALUE;
+        while (!forward.isEmpty() && !backward.isEmpty()
+                && (long) forward.peekDistance() + backward.peekDistance() < shortestDistance) {
+            final boolean forwardTurn = forward.peekDistance() <= backward.peekDistance();
+            final DijkstraScratch current = forwardTurn ? forward : backward;
+            final DijkstraScratch opposite = forwardTurn ? backward : forward;
+
+            final int station = current.poll();
+            final int distance = current.distanceOf(station);
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                final int next = graph.target(edge);
+                current.relax(next, distance + graph.weight(edge), station);
+                if (opposite.isReached(next) && current.distanceOf(next) + opposite.distanceOf(next) < shortestDistance) {
+                    shortestDistance = current.distanceOf(next) + opposite.distanceOf(next);
+                    meeting = next;
+                }
+            }
+        }
+        if (meeting == NOT_MET) {
+            throw new PathNotFoundException();
+        }
+        return new Path(toStations(graph, forward, backward, meeting), shortestDistance);
+    }
+
+    private List<Station> toStations(
+            final CompressedGraph graph,
+            final DijkstraScratch forward,
+            final DijkstraScratch backward,
+            final int meeting
+    ) {
+        final int forwardHops = forward.countHops(meeting);
+        final Station[] stations = new Station[forwardHops + backward.countHops(meeting) + 1];
+        int station = meeting;
+        for (int index = forwardHops; index >= 0; index--) {
+            stations[index] = graph.stationOf(station);
+            station = forward.previousOf(station);
+        }
+        station = meeting;
+        for (int index = forwardHops + 1; index < stations.length; index++) {
+            station = backward.previousOf(station);
+            stations[index] = graph.stationOf(station);
+        }
+        return Arrays.asList(stations);
+    }
+
+    @Override
+    public int getLastSettledCount() {
+        return FORWARD.get().getSettledCount() + BACKWARD.get().getSettledCount();
+    }
+}
@@ -0,0 +1,88 @@
+package subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import subway.domain.Section;
+import subway.domain.Station;
+
+final class CompressedGraph {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final Station[] stations;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    CompressedGraph(final List<Section> sections) {
+        final List<Station> internedStations = new ArrayList<>();
+        final int[] starts = new int[sections.size()];
+        final int[] ends = new int[sections.size()];
+        for (int index = 0; index < sections.size(); index++) {
+            starts[index] = intern(sections.get(index).getStart(), internedStations);
+            ends[index] = intern(sections.get(index).getEnd(), internedStations);
+        }
+        this.stations = internedStations.toArray(new Station[0]);
+
+        this.offsets = new int[stations.length + 1];
+        for (int index = 0; index < sections.size(); index++) {
+            offsets[starts[index] + 1]++;
+            offsets[ends[index] + 1]++;
+        }
+        for (int station = 0; station < stations.length; station++) {
+            offsets[station + 1] += offsets[station];
+        }
+
+        this.targets = new int[sections.size() * 2];
+        this.weights = new int[sections.size() * 2];
+        final int[] cursors = Arrays.copyOf(offsets, stations.length);
+        for (int index = 0; index < sections.size(); index++) {
+            final int weight = sections.get(index).getDistanceValue();
+            link(cursors, starts[index], ends[index], weight);
+            link(cursors, ends[index], starts[index], weight);
+        }
+    }
+
+    private int intern(final Station station, final List<Station> internedStations) {
+        return ids.computeIfAbsent(station.getName(), name -> {
+            internedStations.add(station);
+            return internedStations.size() - 1;
+        });
+    }
+
+    private void link(final int[] cursors, final int from, final int to, final int weight) {
+        final int edge = cursors[from]++;
+        targets[edge] = to;
+        weights[edge] = weight;
+    }
+
+    Integer idOf(final String stationName) {
+        return ids.get(stationName);
+    }
+
+    Station stationOf(final int station) {
+        return stations[station];
+    }
+
+    int stationCount() {
+        return stations.length;
+    }
+
+    int firstEdge(final int station) {
+        return offsets[station];
+    }
+
+    int lastEdge(final int station) {
+        return offsets[station + 1];
+    }
+
+    int target(final int edge) {
+        return targets[edge];
+    }
+
+    int weight(final int edge) {
+        return weights[edge];
+    }
+}
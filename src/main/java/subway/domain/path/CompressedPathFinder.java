@@ -0,0 +1,60 @@
+package subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.List;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.SectionChanges;
+import subway.domain.Subway;
+import subway.exception.StationNotFoundException;
+
+public abstract class CompressedPathFinder implements UpdatablePathFinder {
+
+    private final List<Section> sections;
+    private volatile CompressedGraph graph;
+
+    protected CompressedPathFinder(final Subway subway) {
+        this.sections = toSections(subway);
+        this.graph = new CompressedGraph(sections);
+    }
+
+    protected CompressedPathFinder(final List<Section> sections, final CompressedGraph graph) {
+        this.sections = new ArrayList<>(sections);
+        this.graph = graph;
+    }
+
+    private static List<Section> toSections(final Subway subway) {
+        final List<Section> sections = new ArrayList<>();
+        for (Line line : subway.getLines()) {
+            sections.addAll(line.getSections());
+        }
+        return sections;
+    }
+
+    @Override
+    public Path find(final String startStationName, final String endStationName) {
+        final CompressedGraph graph = this.graph;
+        final Integer source = graph.idOf(startStationName);
+        final Integer target = graph.idOf(endStationName);
+        if (source == null || target == null) {
+            throw new StationNotFoundException();
+        }
+        return find(graph, source, target);
+    }
+
+    protected abstract Path find(final CompressedGraph graph, final int source, final int target);
+
+    public abstract int getLastSettledCount();
+
+    @Override
+    public void apply(final SectionChanges changes) {
+        changes.getRemovedSections().forEach(sections::remove);
+        sections.addAll(changes.getAddedSections());
+        this.graph = new CompressedGraph(sections);
+    }
+
+    @Override
+    public List<Section> getSections() {
+        return new ArrayList<>(sections);
+    }
+}
@@ -0,0 +1,298 @@
+package subway.domain.path;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.exception.PathNotFoundException;
+import subway.exception.StationNotFoundException;
+
+final class ContractionHierarchy {
+
+    private static final ThreadLocal<DijkstraScratch> FORWARD = ThreadLocal.withInitial(DijkstraScratch::new);
+    private static final ThreadLocal<DijkstraScratch> BACKWARD = ThreadLocal.withInitial(DijkstraScratch::new);
+    private static final int NO_MIDDLE = -1;
+    private static final int NOT_MET = -1;
+    private static final int WITNESS_SETTLE_LIMIT = 64;
+    private static final int CORE_DEGREE = 32;
+
+    private final CompressedGraph graph;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] middles;
+    private final int shortcutCount;
+
+    ContractionHierarchy(final List<Section> sections) {
+        this.graph = new CompressedGraph(sections);
+        final Contraction contraction = new Contraction(graph);
+        final List<List<int[]>> upwardEdges = contraction.contractAll();
+        this.shortcutCount = contraction.shortcutCount;
+
+        final int stationCount = graph.stationCount();
+        this.offsets = new int[stationCount + 1];
+        for (int station = 0; station < stationCount; station++) {
+            offsets[station + 1] = offsets[station] + upwardEdges.get(station).size();
+        }
+        this.targets = new int[offsets[stationCount]];
+        this.weights = new int[offsets[stationCount]];
+        this.middles = new int[offsets[stationCount]];
+        for (int station = 0; station < stationCount; station++) {
+            int edge = offsets[station];
+            for (int[] upwardEdge : upwardEdges.get(station)) {
+                targets[edge] = upwardEdge[0];
+                weights[edge] = upwardEdge[1];
+                middles[edge] = upwardEdge[2];
+                edge++;
+            }
+        }
+    }
+
+    Path find(final String startStationName, final String endStationName) {
+        final Integer source = graph.idOf(startStationName);
+        final Integer target = graph.idOf(endStationName);
+        if (source == null || target == null) {
+            throw new StationNotFoundException();
+        }
+
+        final DijkstraScratch forward = FORWARD.get();
+        final DijkstraScratch backward = BACKWARD.get();
+        forward.prepare(graph.stationCount());
+        backward.prepare(graph.stationCount());
+        forward.discover(source, 0, source);
+        backward.discover(target, 0, target);
+
+        int meeting = source.equals(target) ? source : NOT_MET;
+        int shortestDistance = source.equals(target) ? 0 : Integer.MAX_VALUE;
+        while (isActive(forward, shortestDistance) || isActive(backward, shortestDistance)) {
+            final boolean forwardTurn = !isActive(backward, shortestDistance)
+                    || (isActive(forward, shortestDistance) && forward.peekDistance() <= backward.peekDistance());
+            final DijkstraScratch current = forwardTurn ? forward : backward;
+            final DijkstraScratch opposite = forwardTurn ? backward : forward;
+
+            final int station = current.poll();
+            final int distance = current.distanceOf(station);
+            if (opposite.isReached(station) && distance + opposite.distanceOf(station) < shortestDistance) {
+                shortestDistance = distance + opposite.distanceOf(station);
+                meeting = station;
+            }
+            for (int edge = offsets[station]; edge < offsets[station + 1]; edge++) {
+                current.relax(targets[edge], distance + weights[edge], station);
+            }
+        }
+        if (meeting == NOT_MET) {
+            throw new PathNotFoundException();
+        }
+        return new Path(toStations(forward, backward, meeting), shortestDistance);
+    }
+
+    private boolean isActive(final DijkstraScratch scratch, final int shortestDistance) {
+        return !scratch.isEmpty() && scratch.peekDistance() < shortestDistance;
+    }
+
+    private List<Station> toStations(
+            final DijkstraScratch forward,
+            final DijkstraScratch backward,
+            final int meeting
+    ) {
+        final int[] upwardPath = new int[forward.countHops(meeting) + 1];
+        int station = meeting;
+        for (int index = upwardPath.length - 1; index >= 0; index--) {
+            upwardPath[index] = station;
+            station = forward.previousOf(station);
+        }
+
+        final List<Station> stations = new ArrayList<>();
+        stations.add(graph.stationOf(upwardPath[0]));
+        for (int index = 1; index < upwardPath.length; index++) {
+            unpack(upwardPath[index - 1], upwardPath[index], stations);
+        }
+        for (station = meeting; backward.previousOf(station) != station; station = backward.previousOf(station)) {
+            unpack(station, backward.previousOf(station), stations);
+        }
+        return stations;
+    }
+
+    private void unpack(final int from, final int to, final List<Station> stations) {
+        final Deque<int[]> edges = new ArrayDeque<>();
+        edges.push(new int[]{from, to});
+        while (!edges.isEmpty()) {
+            final int[] edge = edges.pop();
+            final int middle = middleOf(edge[0], edge[1]);
+            if (middle == NO_MIDDLE) {
+                stations.add(graph.stationOf(edge[1]));
+                continue;
+            }
+            edges.push(new int[]{middle, edge[1]});
+            edges.push(new int[]{edge[0], middle});
+        }
+    }
+
+    private int middleOf(final int station, final int otherStation) {
+        for (int edge = offsets[station]; edge < offsets[station + 1]; edge++) {
+            if (targets[edge] == otherStation) {
+                return middles[edge];
+            }
+        }
+        for (int edge = offsets[otherStation]; edge < offsets[otherStation + 1]; edge++) {
+            if (targets[edge] == station) {
+                return middles[edge];
+            }
+        }
+        throw new IllegalStateException("축약 계층에 존재하지 않는 간선입니다.");
+    }
+
+    int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    private static final class Contraction {
+
+        private final List<Map<Integer, int[]>> remainingEdges = new ArrayList<>();
+        private final List<List<int[]>> upwardEdges = new ArrayList<>();
+        private final int[] contractedNeighbors;
+        private final boolean[] contracted;
+        private int shortcutCount;
+
+        private Contraction(final CompressedGraph graph) {
+            final int stationCount = graph.stationCount();
+            this.contractedNeighbors = new int[stationCount];
+            this.contracted = new boolean[stationCount];
+            for (int station = 0; station < stationCount; station++) {
+                remainingEdges.add(new HashMap<>());
+                upwardEdges.add(new ArrayList<>());
+            }
+            for (int station = 0; station < stationCount; station++) {
+                for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                    if (graph.target(edge) != station) {
+                        addEdge(station, graph.target(edge), graph.weight(edge), NO_MIDDLE);
+                    }
+                }
+            }
+        }
+
+        private List<List<int[]>> contractAll() {
+            final PriorityQueue<int[]> queue = new PriorityQueue<>((one, other) -> Integer.compare(one[0], other[0]));
+            for (int station = 0; station < contracted.length; station++) {
+                queue.add(new int[]{priorityOf(station), station});
+            }
+            while (!queue.isEmpty()) {
+                final int station = queue.poll()[1];
+                if (contracted[station]) {
+                    continue;
+                }
+                if (remainingEdges.get(station).size() > CORE_DEGREE) {
+                    continue;
+                }
+                final int priority = priorityOf(station);
+                if (!queue.isEmpty() && priority > queue.peek()[0]) {
+                    queue.add(new int[]{priority, station});
+                    continue;
+                }
+                contract(station);
+            }
+            linkCore();
+            return upwardEdges;
+        }
+
+        private void linkCore() {
+            for (int station = 0; station < contracted.length; station++) {
+                if (contracted[station]) {
+                    continue;
+                }
+                for (Map.Entry<Integer, int[]> neighbor : remainingEdges.get(station).entrySet()) {
+                    upwardEdges.get(station).add(new int[]{neighbor.getKey(), neighbor.getValue()[0], neighbor.getValue()[1]});
+                }
+            }
+        }
+
+        private int priorityOf(final int station) {
+            final int edgeDifference = findShortcuts(station).size() - remainingEdges.get(station).size();
+            return edgeDifference + contractedNeighbors[station];
+        }
+
+        private void contract(final int station) {
+            final Map<Integer, int[]> neighbors = remainingEdges.get(station);
+            final List<int[]> shortcuts = findShortcuts(station);
+            for (Map.Entry<Integer, int[]> neighbor : neighbors.entrySet()) {
+                upwardEdges.get(station).add(new int[]{neighbor.getKey(), neighbor.getValue()[0], neighbor.getValue()[1]});
+                remainingEdges.get(neighbor.getKey()).remove(station);
+                contractedNeighbors[neighbor.getKey()]++;
+            }
+            for (int[] shortcut : shortcuts) {
+                addEdge(shortcut[0], shortcut[1], shortcut[2], station);
+                addEdge(shortcut[1], shortcut[0], shortcut[2], station);
+            }
+            shortcutCount += shortcuts.size();
+            remainingEdges.set(station, new HashMap<>());
+            contracted[station] = true;
+        }
+
+        private List<int[]> findShortcuts(final int station) {
+            final Map<Integer, int[]> neighbors = remainingEdges.get(station);
+            final int[] neighborStations = neighbors.keySet().stream().mapToInt(Integer::intValue).toArray();
+            final List<int[]> shortcuts = new ArrayList<>();
+            for (int index = 0; index < neighborStations.length; index++) {
+                final int from = neighborStations[index];
+                final int fromWeight = neighbors.get(from)[0];
+                int maximumWeight = 0;
+                for (int otherIndex = index + 1; otherIndex < neighborStations.length; otherIndex++) {
+                    maximumWeight = Math.max(maximumWeight, neighbors.get(neighborStations[otherIndex])[0]);
+                }
+                if (maximumWeight == 0) {
+                    continue;
+                }
+                final Map<Integer, Integer> witnessDistances = searchWitness(from, station, fromWeight + maximumWeight);
+                for (int otherIndex = index + 1; otherIndex < neighborStations.length; otherIndex++) {
+                    final int to = neighborStations[otherIndex];
+                    final int viaDistance = fromWeight + neighbors.get(to)[0];
+                    if (witnessDistances.getOrDefault(to, Integer.MAX_VALUE) > viaDistance) {
+                        shortcuts.add(new int[]{from, to, viaDistance});
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        private Map<Integer, Integer> searchWitness(final int source, final int ignored, final int maximumDistance) {
+            final Map<Integer, Integer> distances = new HashMap<>();
+            final PriorityQueue<int[]> queue = new PriorityQueue<>((one, other) -> Integer.compare(one[0], other[0]));
+            distances.put(source, 0);
+            queue.add(new int[]{0, source});
+            int settled = 0;
+            while (!queue.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+                final int[] entry = queue.poll();
+                final int distance = entry[0];
+                final int station = entry[1];
+                if (distance > distances.get(station)) {
+                    continue;
+                }
+                if (distance > maximumDistance) {
+                    break;
+                }
+                settled++;
+                for (Map.Entry<Integer, int[]> edge : remainingEdges.get(station).entrySet()) {
+                    final int next = edge.getKey();
+                    final int nextDistance = distance + edge.getValue()[0];
+                    if (next != ignored && nextDistance < distances.getOrDefault(next, Integer.MAX_VALUE)) {
+                        distances.put(next, nextDistance);
+                        queue.add(new int[]{nextDistance, next});
+                    }
+                }
+            }
+            return distances;
+        }
+
+        private void addEdge(final int from, final int to, final int weight, final int middle) {
+            final int[] edge = remainingEdges.get(from).get(to);
+            if (edge == null || weight < edge[0]) {
+                remainingEdges.get(from).put(to, new int[]{weight, middle});
+            }
+        }
+    }
+}
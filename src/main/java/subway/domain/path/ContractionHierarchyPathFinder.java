@@ -0,0 +1,91 @@
+package subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.SectionChanges;
+import subway.domain.Subway;
+
+public class ContractionHierarchyPathFinder implements UpdatablePathFinder {
+
+    private final Executor executor;
+    private final List<Section> sections;
+    private volatile ContractionHierarchy hierarchy;
+    private CompletableFuture<Void> preprocessing = CompletableFuture.completedFuture(null);
+    private long version;
+
+    public ContractionHierarchyPathFinder(final Subway subway) {
+        this(subway, PathFinderOptions.DEFAULT.getPreprocessor());
+    }
+
+    public ContractionHierarchyPathFinder(final Subway subway, final Executor executor) {
+        this.executor = executor;
+        this.sections = new ArrayList<>();
+        for (Line line : subway.getLines()) {
+            sections.addAll(line.getSections());
+        }
+        this.hierarchy = new ContractionHierarchy(sections);
+    }
+
+    @Override
+    public Path find(final String startStationName, final String endStationName) {
+        return hierarchy.find(startStationName, endStationName);
+    }
+
+    @Override
+    public void apply(final SectionChanges changes) {
+        apply(changes, () -> {
+        });
+    }
+
+    @Override
+    public synchronized void apply(final SectionChanges changes, final Runnable onPublished) {
+        changes.getRemovedSections().forEach(sections::remove);
+        sections.addAll(changes.getAddedSections());
+
+        final long requestedVersion = ++version;
+        final List<Section> snapshot = new ArrayList<>(sections);
+        preprocessing = CompletableFuture.runAsync(
+                () -> preprocess(requestedVersion, snapshot, onPublished),
+                executor
+        );
+    }
+
+    private void preprocess(final long requestedVersion, final List<Section> snapshot, final Runnable onPublished) {
+        if (isOutdated(requestedVersion)) {
+            return;
+        }
+        final ContractionHierarchy rebuilt = new ContractionHierarchy(snapshot);
+        synchronized (this) {
+            if (isOutdated(requestedVersion)) {
+                return;
+            }
+            hierarchy = rebuilt;
+        }
+        onPublished.run();
+    }
+
+    private synchronized boolean isOutdated(final long requestedVersion) {
+        return requestedVersion != version;
+    }
+
+    public void awaitPreprocessing() {
+        final CompletableFuture<Void> pending;
+        synchronized (this) {
+            pending = preprocessing;
+        }
+        pending.join();
+    }
+
+    public int getShortcutCount() {
+        return hierarchy.getShortcutCount();
+    }
+
+    @Override
+    public synchronized List<Section> getSections() {
+        return new ArrayList<>(sections);
+    }
+}
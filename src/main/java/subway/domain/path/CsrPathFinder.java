@@ -0,0 +1,66 @@
+package subway.domain.path;
+
+import java.util.Arrays;
+import java.util.List;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.exception.PathNotFoundException;
+
+public class CsrPathFinder extends CompressedPathFinder {
+
+    private static final ThreadLocal<DijkstraScratch> SCRATCH = ThreadLocal.withInitial(DijkstraScratch::new);
+
+    public CsrPathFinder(final Subway subway) {
+        super(subway);
+    }
+
+    CsrPathFinder(final List<Section> sections, final CompressedGraph graph) {
+        super(sections, graph);
+    }
+
+    @Override
+    protected Path find(final CompressedGraph graph, final int source, final int target) {
+        final DijkstraScratch scratch = SCRATCH.get();
+        scratch.prepare(graph.stationCount());
+        if (!search(graph, scratch, source, target)) {
+            throw new PathNotFoundException();
+        }
+        return new Path(toStations(graph, scratch, target), scratch.distanceOf(target));
+    }
+
+    private boolean search(
+            final CompressedGraph graph,
+            final DijkstraScratch scratch,
+            final int source,
+            final int target
+    ) {
+        scratch.discover(source, 0, source);
+        while (!scratch.isEmpty()) {
+            final int station = scratch.poll();
+            if (station == target) {
+                return true;
+            }
+            final int distance = scratch.distanceOf(station);
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                scratch.relax(graph.target(edge), distance + graph.weight(edge), station);
+            }
+        }
+        return false;
+    }
+
+    private List<Station> toStations(final CompressedGraph graph, final DijkstraScratch scratch, final int target) {
+        final Station[] stations = new Station[scratch.countHops(target) + 1];
+        int station = target;
+        for (int index = stations.length - 1; index >= 0; index--) {
+            stations[index] = graph.stationOf(station);
+            station = scratch.previousOf(station);
+        }
+        return Arrays.asList(stations);
+    }
+
+    @Override
+    public int getLastSettledCount() {
+        return SCRATCH.get().getSettledCount();
+    }
+}
@@ -0,0 +1,135 @@
+package subway.domain.path;
+
+import java.util.Arrays;
+
+final class DijkstraScratch {
+
+    private int[] distances = new int[0];
+    private int[] previous = new int[0];
+    private int[] stamps = new int[0];
+    private int[] heapIndexes = new int[0];
+    private int[] heap = new int[0];
+    private int generation;
+    private int size;
+    private int settledCount;
+
+    void prepare(final int stationCount) {
+        if (stamps.length < stationCount) {
+            distances = new int[stationCount];
+            previous = new int[stationCount];
+            stamps = new int[stationCount];
+            heapIndexes = new int[stationCount];
+            heap = new int[stationCount];
+            generation = 0;
+        }
+        generation++;
+        if (generation == 0) {
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+        size = 0;
+        settledCount = 0;
+    }
+
+    void discover(final int station, final int distance, final int from) {
+        stamps[station] = generation;
+        distances[station] = distance;
+        previous[station] = from;
+        heapIndexes[station] = size;
+        heap[size++] = station;
+        siftUp(heapIndexes[station]);
+    }
+
+    void relax(final int station, final int distance, final int from) {
+        if (stamps[station] != generation) {
+            discover(station, distance, from);
+            return;
+        }
+        if (heapIndexes[station] >= 0 && distance < distances[station]) {
+            distances[station] = distance;
+            previous[station] = from;
+            siftUp(heapIndexes[station]);
+        }
+    }
+
+    boolean isReached(final int station) {
+        return stamps[station] == generation;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int peekDistance() {
+        return distances[heap[0]];
+    }
+
+    int poll() {
+        final int station = heap[0];
+        heapIndexes[station] = -1;
+        settledCount++;
+        size--;
+        if (size > 0) {
+            place(heap[size], 0);
+            siftDown(0);
+        }
+        return station;
+    }
+
+    int distanceOf(final int station) {
+        return distances[station];
+    }
+
+    int previousOf(final int station) {
+        return previous[station];
+    }
+
+    int countHops(final int station) {
+        int hops = 0;
+        for (int current = station; previous[current] != current; current = previous[current]) {
+            hops++;
+        }
+        return hops;
+    }
+
+    int getSettledCount() {
+        return settledCount;
+    }
+
+    private void siftUp(int index) {
+        final int station = heap[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (distances[heap[parent]] <= distances[station]) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(station, index);
+    }
+
+    private void siftDown(int index) {
+        final int station = heap[index];
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && distances[heap[child + 1]] < distances[heap[child]]) {
+                child++;
+            }
+            if (distances[station] <= distances[heap[child]]) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(station, index);
+    }
+
+    private void place(final int station, final int index) {
+        heap[index] = station;
+        heapIndexes[station] = index;
+    }
+}
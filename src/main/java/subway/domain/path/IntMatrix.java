@@ -0,0 +1,59 @@
+package subway.domain.path;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+interface IntMatrix {
+
+    static IntMatrix allocate(final int size, final boolean offHeap) {
+        if (offHeap) {
+            return new DirectIntMatrix(size);
+        }
+        return new HeapIntMatrix(size);
+    }
+
+    int get(int index);
+
+    void set(int index, int value);
+
+    final class HeapIntMatrix implements IntMatrix {
+
+        private final int[] values;
+
+        private HeapIntMatrix(final int size) {
+            this.values = new int[size];
+        }
+
+        @Override
+        public int get(final int index) {
+            return values[index];
+        }
+
+        @Override
+        public void set(final int index, final int value) {
+            values[index] = value;
+        }
+    }
+
+    final class DirectIntMatrix implements IntMatrix {
+
+        private final IntBuffer values;
+
+        private DirectIntMatrix(final int size) {
+            this.values = ByteBuffer.allocateDirect(Math.multiplyExact(size, Integer.BYTES))
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+        }
+
+        @Override
+        public int get(final int index) {
+            return values.get(index);
+        }
+
+        @Override
+        public void set(final int index, final int value) {
+            values.put(index, value);
+        }
+    }
+}
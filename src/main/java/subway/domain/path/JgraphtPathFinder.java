@@ -1,85 +1,151 @@
 package subway.domain.path;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
 import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.GraphDelegator;
 import org.jgrapht.graph.WeightedMultigraph;
 import subway.domain.Distance;
 import subway.domain.Line;
 import subway.domain.Section;
+import subway.domain.SectionChanges;
 import subway.domain.Station;
 import subway.domain.Subway;
+import subway.exception.PathNotFoundException;
 import subway.exception.StationNotFoundException;
 
-public class JgraphtPathFinder implements PathFinder {
+public class JgraphtPathFinder implements UpdatablePathFinder {
 
-    private final Subway subway;
+    private final WeightedMultigraph<String, DefaultWeightedEdge> graph;
+    private final Map<String, Station> stationByName = new HashMap<>();
+    private final PathFinderMetrics metrics;
 
     public JgraphtPathFinder(final Subway subway) {
-        this.subway = subway;
+        this(subway, PathFinderMetrics.NONE);
+    }
+
+    public JgraphtPathFinder(final Subway subway, final PathFinderMetrics metrics) {
+        final long startedAt = System.nanoTime();
+        this.graph = new WeightedMultigraph<>(DefaultWeightedEdge.class);
+        this.metrics = metrics;
+        for (Line line : subway.getLines()) {
+            line.getSections().forEach(this::addSection);
+        }
+        metrics.recordGraphBuild(System.nanoTime() - startedAt);
     }
 
     @Override
     public Path find(final String startStationName, final String endStationName) {
         validateExist(startStationName, endStationName);
 
-        final WeightedMultigraph<String, DefaultWeightedEdge> graph = makeWeightGraph();
-        final DijkstraShortestPath<String, DefaultWeightedEdge> dijkstraShortestPath =
-                new DijkstraShortestPath<>(graph);
-        final List<String> pathWithStationName = dijkstraShortestPath.getPath(startStationName, endStationName)
-                .getVertexList();
-        final List<Station> stations = nameToStation(pathWithStationName);
-        final double distance = dijkstraShortestPath.getPathWeight(startStationName, endStationName);
+        final long startedAt = System.nanoTime();
+        final VisitCountingGraph visitCountingGraph = new VisitCountingGraph(graph);
+        final GraphPath<String, DefaultWeightedEdge> graphPath =
+                new DijkstraShortestPath<>(visitCountingGraph).getPath(startStationName, endStationName);
+        metrics.recordSearch(
+                System.nanoTime() - startedAt,
+                visitCountingGraph.visitedStations,
+                visitCountingGraph.visitedSections
+        );
+        if (graphPath == null) {
+            throw new PathNotFoundException();
+        }
+        final List<Station> stations = nameToStation(graphPath.getVertexList());
 
-        return new Path(stations, new Distance((int) distance));
+        return new Path(stations, (int) graphPath.getWeight());
     }
 
-    private void validateExist(String startStationName, String endStationName) {
-        if (!isExistStation(startStationName) || !isExistStation(endStationName)) {
-            throw new StationNotFoundException();
+    @Override
+    public void apply(final SectionChanges changes) {
+        changes.getRemovedSections().forEach(this::removeSection);
+        changes.getAddedSections().forEach(this::addSection);
+    }
+
+    private void removeSection(final Section section) {
+        final String startName = section.getStartName();
+        final String endName = section.getEndName();
+        if (!graph.containsVertex(startName) || !graph.containsVertex(endName)) {
+            return;
         }
+        graph.getAllEdges(startName, endName).stream()
+                .filter(edge -> graph.getEdgeWeight(edge) == section.getDistanceValue())
+                .findFirst()
+                .ifPresent(graph::removeEdge);
+        removeVertexIfIsolated(startName);
+        removeVertexIfIsolated(endName);
     }
 
-    private Boolean isExistStation(final String stationName) {
-        return subway.getLines().stream()
-                .anyMatch(line -> line.hasStation(stationName));
+    private void removeVertexIfIsolated(final String stationName) {
+        if (graph.degreeOf(stationName) == 0) {
+            graph.removeVertex(stationName);
+            stationByName.remove(stationName);
+        }
     }
 
-    private WeightedMultigraph<String, DefaultWeightedEdge> makeWeightGraph() {
-        WeightedMultigraph<String, DefaultWeightedEdge> graph = new WeightedMultigraph<>(DefaultWeightedEdge.class);
+    private void addSection(final Section section) {
+        final String startName = section.getStartName();
+        final String endName = section.getEndName();
 
-        for (Line line : subway.getLines()) {
-            makeGraphEachLine(graph, line);
-        }
-        return graph;
+        addVertexIfNotContains(section.getStart());
+        addVertexIfNotContains(section.getEnd());
+        graph.setEdgeWeight(graph.addEdge(startName, endName), section.getDistanceValue());
     }
 
-    private void makeGraphEachLine(final WeightedMultigraph<String, DefaultWeightedEdge> graph, final Line line) {
-        final List<Section> sections = line.getSections();
-        for (Section section : sections) {
-            final String startName = section.getStartName();
-            final String endName = section.getEndName();
-            final int distance = section.getDistanceValue();
+    @Override
+    public List<Section> getSections() {
+        return graph.edgeSet().stream()
+                .map(edge -> new Section(
+                        stationByName.get(graph.getEdgeSource(edge)),
+                        stationByName.get(graph.getEdgeTarget(edge)),
+                        Distance.valueOf((int) graph.getEdgeWeight(edge))
+                ))
+                .collect(Collectors.toList());
+    }
 
-            addVertexIfNotContains(graph, startName);
-            addVertexIfNotContains(graph, endName);
-            graph.setEdgeWeight(graph.addEdge(startName, endName), distance);
+    private void validateExist(String startStationName, String endStationName) {
+        if (!isExistStation(startStationName) || !isExistStation(endStationName)) {
+            throw new StationNotFoundException();
         }
     }
 
-    private void addVertexIfNotContains(
-            final WeightedMultigraph<String, DefaultWeightedEdge> graph,
-            final String stationName
-    ) {
-        if (!graph.containsVertex(stationName)) {
-            graph.addVertex(stationName);
+    private boolean isExistStation(final String stationName) {
+        return graph.containsVertex(stationName);
+    }
+
+    private void addVertexIfNotContains(final Station station) {
+        if (!graph.containsVertex(station.getName())) {
+            graph.addVertex(station.getName());
+            stationByName.put(station.getName(), station);
         }
     }
 
     private List<Station> nameToStation(final List<String> pathWithStationName) {
         return pathWithStationName.stream()
-                .map(Station::new)
+                .map(stationByName::get)
                 .collect(Collectors.toList());
     }
+
+    private static class VisitCountingGraph extends GraphDelegator<String, DefaultWeightedEdge> {
+
+        private int visitedStations;
+        private int visitedSections;
+
+        private VisitCountingGraph(final Graph<String, DefaultWeightedEdge> graph) {
+            super(graph);
+        }
+
+        @Override
+        public Set<DefaultWeightedEdge> outgoingEdgesOf(final String stationName) {
+            final Set<DefaultWeightedEdge> edges = super.outgoingEdgesOf(stationName);
+            visitedStations++;
+            visitedSections += edges.size();
+            return edges;
+        }
+    }
 }
@@ -4,15 +4,39 @@ import java.util.List;
 import java.util.stream.Collectors;
 import subway.domain.Distance;
 import subway.domain.Station;
+import subway.domain.fare.FarePolicy;
+import subway.exception.DistanceNotValidException;
 
 public class Path {
 
+    private static final int UNKNOWN_FARE = -1;
+
     private final List<Station> path;
-    private final Distance distance;
+    private final int distance;
+    private final int fare;
 
     public Path(final List<Station> path, final Distance distance) {
+        this(path, distance.getValue());
+    }
+
+    Path(final List<Station> path, final int distance) {
+        this(path, distance, UNKNOWN_FARE);
+    }
+
+    Path(final List<Station> path, final int distance, final int fare) {
+        if (distance <= 0) {
+            throw new DistanceNotValidException();
+        }
         this.path = path;
         this.distance = distance;
+        this.fare = fare;
+    }
+
+    public int calculateFare(final FarePolicy farePolicy) {
+        if (fare != UNKNOWN_FARE) {
+            return fare;
+        }
+        return farePolicy.calculate(getDistance());
     }
 
     public List<String> getAllStationName() {
@@ -26,6 +50,6 @@ public class Path {
     }
 
     public int getDistance() {
-        return distance.getValue();
+        return distance;
     }
 }
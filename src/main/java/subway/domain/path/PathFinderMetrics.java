@@ -0,0 +1,13 @@
+package subway.domain.path;
+
+public interface PathFinderMetrics {
+
+    PathFinderMetrics NONE = new PathFinderMetrics() {
+    };
+
+    default void recordGraphBuild(final long elapsedNanos) {
+    }
+
+    default void recordSearch(final long elapsedNanos, final int visitedStations, final int visitedSections) {
+    }
+}
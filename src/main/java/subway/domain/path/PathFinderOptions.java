@@ -0,0 +1,78 @@
+package subway.domain.path;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import subway.domain.fare.DistanceFarePolicy;
+import subway.domain.fare.FarePolicy;
+
+public class PathFinderOptions {
+
+    public static final PathFinderOptions DEFAULT = new PathFinderOptions(
+            48_000_000L,
+            false,
+            new DistanceFarePolicy()
+    );
+
+    private final long allPairsMaximumMemoryBytes;
+    private final boolean allPairsOffHeap;
+    private final FarePolicy farePolicy;
+    private final PathFinderMetrics metrics;
+    private final Executor preprocessor;
+
+    public PathFinderOptions(
+            final long allPairsMaximumMemoryBytes,
+            final boolean allPairsOffHeap,
+            final FarePolicy farePolicy
+    ) {
+        this(allPairsMaximumMemoryBytes, allPairsOffHeap, farePolicy, PathFinderMetrics.NONE);
+    }
+
+    public PathFinderOptions(
+            final long allPairsMaximumMemoryBytes,
+            final boolean allPairsOffHeap,
+            final FarePolicy farePolicy,
+            final PathFinderMetrics metrics
+    ) {
+        this(allPairsMaximumMemoryBytes, allPairsOffHeap, farePolicy, metrics, Runnable::run);
+    }
+
+    public PathFinderOptions(
+            final long allPairsMaximumMemoryBytes,
+            final boolean allPairsOffHeap,
+            final FarePolicy farePolicy,
+            final PathFinderMetrics metrics,
+            final Executor preprocessor
+    ) {
+        this.allPairsMaximumMemoryBytes = allPairsMaximumMemoryBytes;
+        this.allPairsOffHeap = allPairsOffHeap;
+        this.farePolicy = farePolicy;
+        this.metrics = metrics;
+        this.preprocessor = preprocessor;
+    }
+
+    public void close() {
+        if (preprocessor instanceof ExecutorService) {
+            ((ExecutorService) preprocessor).shutdown();
+        }
+    }
+
+    public long getAllPairsMaximumMemoryBytes() {
+        return allPairsMaximumMemoryBytes;
+    }
+
+    public boolean isAllPairsOffHeap() {
+        return allPairsOffHeap;
+    }
+
+    public FarePolicy getFarePolicy() {
+        return farePolicy;
+    }
+
+    public PathFinderMetrics getMetrics() {
+        return metrics;
+    }
+
+    public Executor getPreprocessor() {
+        return preprocessor;
+    }
+}
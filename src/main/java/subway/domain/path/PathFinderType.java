@@ -0,0 +1,27 @@
+package subway.domain.path;
+
+import java.util.function.BiFunction;
+import subway.domain.Subway;
+
+public enum PathFinderType {
+    JGRAPHT((subway, options) -> new JgraphtPathFinder(subway, options.getMetrics())),
+    CSR((subway, options) -> new CsrPathFinder(subway)),
+    BIDIRECTIONAL((subway, options) -> new BidirectionalPathFinder(subway)),
+    CONTRACTION_HIERARCHY((subway, options) -> new ContractionHierarchyPathFinder(subway, options.getPreprocessor())),
+    ALL_PAIRS(AllPairsPathFinder::new),
+    ;
+
+    private final BiFunction<Subway, PathFinderOptions, UpdatablePathFinder> constructor;
+
+    PathFinderType(final BiFunction<Subway, PathFinderOptions, UpdatablePathFinder> constructor) {
+        this.constructor = constructor;
+    }
+
+    public UpdatablePathFinder create(final Subway subway) {
+        return create(subway, PathFinderOptions.DEFAULT);
+    }
+
+    public UpdatablePathFinder create(final Subway subway, final PathFinderOptions options) {
+        return constructor.apply(subway, options);
+    }
+}
@@ -0,0 +1,17 @@
+package subway.domain.path;
+
+import java.util.List;
+import subway.domain.Section;
+import subway.domain.SectionChanges;
+
+public interface UpdatablePathFinder extends PathFinder {
+
+    void apply(final SectionChanges changes);
+
+    default void apply(final SectionChanges changes, final Runnable onPublished) {
+        apply(changes);
+        onPublished.run();
+    }
+
+    List<Section> getSections();
+}
@@ -0,0 +1,29 @@
+package subway.dto;
+
+public class NetworkImportResponse {
+
+    private int lines;
+    private int stations;
+    private int sections;
+
+    private NetworkImportResponse() {
+    }
+
+    public NetworkImportResponse(final int lines, final int stations, final int sections) {
+        this.lines = lines;
+        this.stations = stations;
+        this.sections = sections;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getStations() {
+        return stations;
+    }
+
+    public int getSections() {
+        return sections;
+    }
+}
@@ -0,0 +1,58 @@
+package subway.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NetworkRecord {
+
+    private String line;
+    private String color;
+    private String start;
+    private String end;
+    private Integer distance;
+
+    private NetworkRecord() {
+    }
+
+    public NetworkRecord(
+            final String line,
+            final String color,
+            final String start,
+            final String end,
+            final Integer distance
+    ) {
+        this.line = line;
+        this.color = color;
+        this.start = start;
+        this.end = end;
+        this.distance = distance;
+    }
+
+    public static NetworkRecord ofLine(final String line, final String color) {
+        return new NetworkRecord(line, color, null, null, null);
+    }
+
+    public boolean hasSection() {
+        return start != null || end != null || distance != null;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public String getStart() {
+        return start;
+    }
+
+    public String getEnd() {
+        return end;
+    }
+
+    public Integer getDistance() {
+        return distance;
+    }
+}
@@ -1,5 +1,7 @@
 package subway.dto;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import subway.domain.path.Path;
 
@@ -22,6 +24,12 @@ public class ShortestPathResponse {
         return new ShortestPathResponse(path.getAllStationName(), path.getDistance(), fare);
     }
 
+    public ShortestPathResponse reverse() {
+        final List<String> reversedPath = new ArrayList<>(path);
+        Collections.reverse(reversedPath);
+        return new ShortestPathResponse(reversedPath, distance, fare);
+    }
+
     public List<String> getPath() {
         return path;
     }
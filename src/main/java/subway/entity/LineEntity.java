@@ -6,15 +6,21 @@ public class LineEntity {
     private final Long id;
     private final String name;
     private final String color;
+    private final long version;
 
     public LineEntity(String name, String color) {
         this(null, name, color);
     }
 
     public LineEntity(Long id, String name, String color) {
+        this(id, name, color, 0L);
+    }
+
+    public LineEntity(Long id, String name, String color, long version) {
         this.id = id;
         this.name = name;
         this.color = color;
+        this.version = version;
     }
 
     @Override
@@ -45,4 +51,8 @@ public class LineEntity {
     public String getColor() {
         return color;
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
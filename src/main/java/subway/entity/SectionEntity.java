@@ -3,51 +3,60 @@ package subway.entity;
 import static java.util.stream.Collectors.toList;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import subway.domain.Section;
 
 public class SectionEntity {
 
     private final Long id;
-    private final String startStationName;
-    private final String endStationName;
+    private final Long startStationId;
+    private final Long endStationId;
     private final Integer distance;
     private final Long lineId;
 
     public SectionEntity(
-            final String startStationName,
-            final String endStationName,
+            final Long startStationId,
+            final Long endStationId,
             final Integer distance,
             final Long lineId
     ) {
-        this(null, startStationName, endStationName, distance, lineId);
+        this(null, startStationId, endStationId, distance, lineId);
     }
 
     public SectionEntity(
             final Long id,
-            final String startStationName,
-            final String endStationName,
+            final Long startStationId,
+            final Long endStationId,
             final Integer distance,
             final Long lineId
     ) {
         this.id = id;
-        this.startStationName = startStationName;
-        this.endStationName = endStationName;
+        this.startStationId = startStationId;
+        this.endStationId = endStationId;
         this.distance = distance;
         this.lineId = lineId;
     }
 
-    public static List<SectionEntity> of(final List<Section> sections, final Long lineId) {
+    public static List<SectionEntity> of(
+            final List<Section> sections,
+            final Long lineId,
+            final Map<String, Long> stationIds
+    ) {
         return sections.stream()
-                .map(section -> new SectionEntity(
-                        section.getStartName(),
-                        section.getEndName(),
-                        section.getDistanceValue(),
-                        lineId
-                ))
+                .map(section -> of(section, lineId, stationIds))
                 .collect(toList());
     }
 
+    public static SectionEntity of(final Section section, final Long lineId, final Map<String, Long> stationIds) {
+        return new SectionEntity(
+                stationIds.get(section.getStartName()),
+                stationIds.get(section.getEndName()),
+                section.getDistanceValue(),
+                lineId
+        );
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -57,26 +66,26 @@ public class SectionEntity {
             return false;
         }
         final SectionEntity that = (SectionEntity) o;
-        return Objects.equals(id, that.id) && Objects.equals(startStationName, that.startStationName)
-                && Objects.equals(endStationName, that.endStationName) && Objects.equals(distance,
+        return Objects.equals(id, that.id) && Objects.equals(startStationId, that.startStationId)
+                && Objects.equals(endStationId, that.endStationId) && Objects.equals(distance,
                 that.distance) && Objects.equals(lineId, that.lineId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, startStationName, endStationName, distance, lineId);
+        return Objects.hash(id, startStationId, endStationId, distance, lineId);
     }
 
     public Long getId() {
         return id;
     }
 
-    public String getStartStationName() {
-        return startStationName;
+    public Long getStartStationId() {
+        return startStationId;
     }
 
-    public String getEndStationName() {
-        return endStationName;
+    public Long getEndStationId() {
+        return endStationId;
     }
 
     public Integer getDistance() {
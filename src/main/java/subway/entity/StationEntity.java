@@ -9,21 +9,19 @@ import subway.domain.Station;
 public class StationEntity {
     private final Long id;
     private final String name;
-    private final Long lineId;
 
-    public StationEntity(String name, Long lineId) {
-        this(null, name, lineId);
+    public StationEntity(String name) {
+        this(null, name);
     }
 
-    public StationEntity(final Long id, final String name, final Long lineId) {
+    public StationEntity(final Long id, final String name) {
         this.id = id;
         this.name = name;
-        this.lineId = lineId;
     }
 
-    public static List<StationEntity> of(final List<Station> stations, final Long lineId) {
+    public static List<StationEntity> of(final List<Station> stations) {
         return stations.stream()
-                .map(station -> new StationEntity(station.getName(), lineId))
+                .map(station -> new StationEntity(station.getName()))
                 .collect(toList());
     }
 
@@ -51,8 +49,4 @@ public class StationEntity {
     public String getName() {
         return name;
     }
-
-    public Long getLineId() {
-        return lineId;
-    }
 }
@@ -0,0 +1,8 @@
+package subway.exception;
+
+public class DuplicateLineNameException extends SubwayException {
+
+    public DuplicateLineNameException() {
+        super("이미 존재하는 노선 이름입니다.");
+    }
+}
@@ -4,6 +4,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -42,6 +43,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(new ExceptionResponse(e.getMessage()), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(LineConflictException.class)
+    public ResponseEntity<ExceptionResponse> handleLineConflictException(final LineConflictException e) {
+        logger.warn(e.getMessage());
+        return new ResponseEntity<>(new ExceptionResponse(e.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(LineWriteUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> handleLineWriteUnavailableException(
+            final LineWriteUnavailableException e
+    ) {
+        logger.warn(e.getMessage());
+        return new ResponseEntity<>(new ExceptionResponse(e.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ExceptionResponse> handleConcurrencyFailureException(final ConcurrencyFailureException e) {
+        logger.warn(e.getMessage());
+        return handleLineConflictException(new LineConflictException());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ExceptionResponse> handleValidException(final MethodArgumentNotValidException e) {
         final String errorMessage = e.getFieldErrors().stream()
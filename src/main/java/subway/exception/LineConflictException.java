@@ -0,0 +1,8 @@
+package subway.exception;
+
+public class LineConflictException extends SubwayException {
+
+    public LineConflictException() {
+        super("다른 요청이 노선을 먼저 수정했습니다. 다시 시도해주세요.");
+    }
+}
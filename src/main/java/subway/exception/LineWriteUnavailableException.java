@@ -0,0 +1,8 @@
+package subway.exception;
+
+public class LineWriteUnavailableException extends SubwayException {
+
+    public LineWriteUnavailableException() {
+        super("노선 수정 요청이 제한 시간 안에 처리되지 않았습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,8 @@
+package subway.exception;
+
+public class PathNotFoundException extends SubwayException {
+
+    public PathNotFoundException() {
+        super("경로를 찾을 수 없습니다.");
+    }
+}
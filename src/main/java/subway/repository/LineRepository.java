@@ -1,73 +1,205 @@
 package subway.repository;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import subway.dao.LineDao;
 import subway.dao.SectionDao;
-import subway.dao.StationDao;
+import subway.domain.Distance;
 import subway.domain.Line;
 import subway.domain.Section;
+import subway.domain.SectionChanges;
+import subway.domain.Station;
 import subway.entity.LineEntity;
 import subway.entity.SectionEntity;
-import subway.entity.StationEntity;
+import subway.exception.DuplicateLineNameException;
+import subway.exception.LineConflictException;
 import subway.exception.LineNotFoundException;
 
 @Repository
 public class LineRepository {
 
     private final LineDao lineDao;
-    private final StationDao stationDao;
     private final SectionDao sectionDao;
+    private final StationRepository stationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LineRepository(final LineDao lineDao, final StationDao stationDao, final SectionDao sectionDao) {
+    public LineRepository(
+            final LineDao lineDao,
+            final SectionDao sectionDao,
+            final StationRepository stationRepository,
+            final ApplicationEventPublisher eventPublisher
+    ) {
         this.lineDao = lineDao;
-        this.stationDao = stationDao;
         this.sectionDao = sectionDao;
+        this.stationRepository = stationRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public Line save(final Line line) {
         final Optional<LineEntity> lineEntity = lineDao.findByName(line.getName());
-        lineEntity.ifPresent(entity -> lineDao.deleteById(entity.getId()));
-        final LineEntity newLineEntity = lineDao.insert(new LineEntity(line.getName(), line.getColor()));
-        final List<StationEntity> stations = StationEntity.of(line.findAllStation(), newLineEntity.getId());
-        stationDao.insertAll(stations);
-        final List<SectionEntity> sections = SectionEntity.of(line.getSections(), newLineEntity.getId());
-        sectionDao.insertAll(sections);
+        if (lineEntity.isEmpty()) {
+            insert(line);
+            eventPublisher.publishEvent(new SubwayChangedEvent(SectionChanges.added(line.getSections())));
+            return line;
+        }
+        eventPublisher.publishEvent(new SubwayChangedEvent(update(lineEntity.get(), line)));
         return line;
     }
 
+    public List<Line> saveAll(final List<Line> lines) {
+        final SectionChanges changes = new SectionChanges();
+        final Map<Long, Line> addedLines = new LinkedHashMap<>();
+        for (Line line : lines) {
+            final Optional<LineEntity> lineEntity = lineDao.findByName(line.getName());
+            if (lineEntity.isPresent()) {
+                changes.addAll(update(lineEntity.get(), line));
+                continue;
+            }
+            final Long lineId = lineDao.insert(new LineEntity(line.getName(), line.getColor())).getId();
+            addedLines.put(lineId, line);
+            changes.addAll(SectionChanges.added(line.getSections()));
+        }
+        final Map<String, Long> stationIds = stationRepository.saveAll(addedLines.values().stream()
+                .flatMap(line -> line.findAllStation().stream())
+                .collect(toList()));
+        final List<SectionEntity> addedSections = new ArrayList<>();
+        addedLines.forEach((lineId, line) -> addedSections.addAll(
+                SectionEntity.of(line.getSections(), lineId, stationIds)
+        ));
+        sectionDao.insertAll(addedSections);
+        eventPublisher.publishEvent(new SubwayChangedEvent(changes));
+        return lines;
+    }
+
+    private void insert(final Line line) {
+        final LineEntity lineEntity = lineDao.insert(new LineEntity(line.getName(), line.getColor()));
+        final Map<String, Long> stationIds = stationRepository.saveAll(line.findAllStation());
+        sectionDao.insertAll(SectionEntity.of(line.getSections(), lineEntity.getId(), stationIds));
+    }
+
+    private SectionChanges update(final LineEntity lineEntity, final Line line) {
+        final Long lineId = lineEntity.getId();
+        final LineEntity newLineEntity = new LineEntity(lineId, line.getName(), line.getColor(), line.getVersion());
+        if (!lineDao.updateIfVersionMatches(newLineEntity)) {
+            throw new LineConflictException();
+        }
+
+        final Map<String, Long> stationIds = stationRepository.saveAll(line.findAllStation());
+        final List<SectionEntity> persistedSectionEntities = sectionDao.findByLineId(lineId);
+        final Map<Long, Station> persistedStations = findStations(persistedSectionEntities);
+        final Map<List<Long>, SectionEntity> persistedSections = persistedSectionEntities.stream()
+                .collect(toMap(this::toStationIds, Function.identity()));
+        final SectionChanges changes = new SectionChanges();
+        final List<SectionEntity> addedSections = new ArrayList<>();
+        final List<SectionEntity> updatedSections = new ArrayList<>();
+        for (Section section : line.getSections()) {
+            final SectionEntity sectionEntity = SectionEntity.of(section, lineId, stationIds);
+            final SectionEntity persistedSection = persistedSections.remove(toStationIds(sectionEntity));
+            if (persistedSection == null) {
+                addedSections.add(sectionEntity);
+                changes.add(section);
+                continue;
+            }
+            if (!persistedSection.getDistance().equals(sectionEntity.getDistance())) {
+                updatedSections.add(new SectionEntity(
+                        persistedSection.getId(),
+                        sectionEntity.getStartStationId(),
+                        sectionEntity.getEndStationId(),
+                        sectionEntity.getDistance(),
+                        lineId
+                ));
+                changes.remove(toSection(persistedSection, persistedStations));
+                changes.add(section);
+            }
+        }
+        persistedSections.values().forEach(section -> changes.remove(toSection(section, persistedStations)));
+
+        sectionDao.deleteAllById(toIds(persistedSections.values(), SectionEntity::getId));
+        sectionDao.updateAll(updatedSections);
+        sectionDao.insertAll(addedSections);
+        line.increaseVersion();
+        return changes;
+    }
+
+    private List<Long> toStationIds(final SectionEntity section) {
+        return List.of(section.getStartStationId(), section.getEndStationId());
+    }
+
+    private <T> List<Long> toIds(final Collection<T> entities, final Function<T, Long> idExtractor) {
+        return entities.stream()
+                .map(idExtractor)
+                .collect(toList());
+    }
+
     public void deleteById(final Long id) {
-        lineDao.findById(id).orElseThrow(LineNotFoundException::new);
+        final Line line = findById(id);
         lineDao.deleteById(id);
+        eventPublisher.publishEvent(new SubwayChangedEvent(SectionChanges.removed(line.getSections())));
     }
 
     public void updateNameAndColorById(final Long id, final String name, final String color) {
         lineDao.findById(id).orElseThrow(LineNotFoundException::new);
+        final boolean duplicated = lineDao.findByName(name)
+                .filter(lineEntity -> !lineEntity.getId().equals(id))
+                .isPresent();
+        if (duplicated) {
+            throw new DuplicateLineNameException();
+        }
         lineDao.update(new LineEntity(id, name, color));
+        eventPublisher.publishEvent(new SubwayChangedEvent(new SectionChanges()));
     }
 
     public List<Line> findAll() {
         final List<LineEntity> lineEntities = lineDao.findAll();
         final List<SectionEntity> sectionEntities = sectionDao.findAll();
+        final Map<Long, Station> stations = findStations(sectionEntities);
 
         final Map<Long, List<SectionEntity>> idBySections = sectionEntities.stream()
                 .collect(Collectors.groupingBy(SectionEntity::getLineId));
 
         return lineEntities.stream()
-                .map(lineEntity -> toLine(lineEntity, idBySections.getOrDefault(lineEntity.getId(), new ArrayList<>())))
+                .map(lineEntity -> toLine(
+                        lineEntity,
+                        idBySections.getOrDefault(lineEntity.getId(), new ArrayList<>()),
+                        stations
+                ))
                 .collect(toList());
     }
 
     public Line findById(final Long id) {
-        final LineEntity lineEntity = lineDao.findById(id).orElseThrow(LineNotFoundException::new);
-        final List<SectionEntity> sectionEntities = sectionDao.findByLineId(lineEntity.getId());
-        return toLine(lineEntity, sectionEntities);
+        return toLine(lineDao.findById(id).orElseThrow(LineNotFoundException::new));
+    }
+
+    public Line findByName(final String name) {
+        return toLine(lineDao.findByName(name).orElseThrow(LineNotFoundException::new));
+    }
+
+    public boolean existsSectionOutside(final String lineName, final Station start, final Station end) {
+        final Map<String, Long> stationIds = stationRepository.findIdsByName(List.of(start.getName(), end.getName()));
+        final Long startStationId = stationIds.get(start.getName());
+        final Long endStationId = stationIds.get(end.getName());
+        if (startStationId == null || endStationId == null) {
+            return false;
+        }
+        return sectionDao.existsByStationIdsExcludingLine(startStationId, endStationId, lineName)
+                || sectionDao.existsByStationIdsExcludingLine(endStationId, startStationId, lineName);
+    }
+
+    public boolean existsByName(final String name) {
+        return lineDao.findByName(name).isPresent();
     }
 
     public Long findIdByName(final String name) {
@@ -76,15 +208,37 @@ public class LineRepository {
                 .getId();
     }
 
-    private Line toLine(final LineEntity lineEntity, final List<SectionEntity> sectionEntities) {
+    private Map<Long, Station> findStations(final List<SectionEntity> sectionEntities) {
+        final Set<Long> stationIds = new HashSet<>();
+        for (SectionEntity sectionEntity : sectionEntities) {
+            stationIds.add(sectionEntity.getStartStationId());
+            stationIds.add(sectionEntity.getEndStationId());
+        }
+        return stationRepository.findAllById(stationIds);
+    }
+
+    private Line toLine(final LineEntity lineEntity) {
+        final List<SectionEntity> sectionEntities = sectionDao.findByLineId(lineEntity.getId());
+        return toLine(lineEntity, sectionEntities, findStations(sectionEntities));
+    }
+
+    private Line toLine(
+            final LineEntity lineEntity,
+            final List<SectionEntity> sectionEntities,
+            final Map<Long, Station> stations
+    ) {
         final List<Section> sections = sectionEntities.stream()
-                .map(sectionEntity -> new Section(
-                        sectionEntity.getStartStationName(),
-                        sectionEntity.getEndStationName(),
-                        sectionEntity.getDistance()
-                ))
+                .map(sectionEntity -> toSection(sectionEntity, stations))
                 .collect(toList());
 
-        return new Line(lineEntity.getName(), lineEntity.getColor(), sections);
+        return new Line(lineEntity.getName(), lineEntity.getColor(), sections, lineEntity.getVersion());
+    }
+
+    private Section toSection(final SectionEntity sectionEntity, final Map<Long, Station> stations) {
+        return new Section(
+                stations.get(sectionEntity.getStartStationId()),
+                stations.get(sectionEntity.getEndStationId()),
+                Distance.valueOf(sectionEntity.getDistance())
+        );
     }
 }
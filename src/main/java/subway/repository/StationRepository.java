@@ -0,0 +1,97 @@
+package subway.repository;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Repository;
+import subway.dao.StationDao;
+import subway.domain.Station;
+import subway.entity.StationEntity;
+
+@Repository
+public class StationRepository {
+
+    private final StationDao stationDao;
+    private final Map<Long, Station> stationById = new ConcurrentHashMap<>();
+
+    public StationRepository(final StationDao stationDao) {
+        this.stationDao = stationDao;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        stationDao.findAll().forEach(this::cache);
+    }
+
+    public Map<String, Long> saveAll(final Collection<Station> stations) {
+        final Map<String, Long> idByName = new HashMap<>();
+        final Set<String> names = new LinkedHashSet<>();
+        for (Station station : stations) {
+            if (station.getId() == null) {
+                names.add(station.getName());
+                continue;
+            }
+            idByName.put(station.getName(), station.getId());
+        }
+        names.removeAll(idByName.keySet());
+        if (names.isEmpty()) {
+            return idByName;
+        }
+        idByName.putAll(findIdsByName(names));
+        names.removeAll(idByName.keySet());
+        if (!names.isEmpty()) {
+            stationDao.insertAll(names.stream().map(StationEntity::new).collect(toList()));
+            idByName.putAll(findIdsByName(names));
+        }
+        return idByName;
+    }
+
+    public Map<String, Long> findIdsByName(final Collection<String> names) {
+        final Map<String, Long> idByName = new HashMap<>();
+        if (names.isEmpty()) {
+            return idByName;
+        }
+        for (StationEntity stationEntity : stationDao.findAllByName(names)) {
+            cache(stationEntity);
+            idByName.put(stationEntity.getName(), stationEntity.getId());
+        }
+        return idByName;
+    }
+
+    public Map<Long, Station> findAllById(final Collection<Long> ids) {
+        final Map<Long, Station> stations = new HashMap<>();
+        final List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            final Station station = stationById.get(id);
+            if (station == null) {
+                missingIds.add(id);
+                continue;
+            }
+            stations.put(id, station);
+        }
+        if (!missingIds.isEmpty()) {
+            stationDao.findAllById(missingIds)
+                    .forEach(stationEntity -> stations.put(stationEntity.getId(), cache(stationEntity)));
+        }
+        return stations;
+    }
+
+    private Station cache(final StationEntity stationEntity) {
+        return stationById.computeIfAbsent(
+                stationEntity.getId(),
+                ignored -> new Station(stationEntity.getId(), stationEntity.getName())
+        );
+    }
+}
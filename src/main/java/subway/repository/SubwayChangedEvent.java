@@ -0,0 +1,16 @@
+package subway.repository;
+
+import subway.domain.SectionChanges;
+
+public class SubwayChangedEvent {
+
+    private final SectionChanges changes;
+
+    public SubwayChangedEvent(final SectionChanges changes) {
+        this.changes = changes;
+    }
+
+    public SectionChanges getChanges() {
+        return changes;
+    }
+}
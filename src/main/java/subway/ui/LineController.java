@@ -1,5 +1,6 @@
 package subway.ui;
 
+import io.micrometer.core.annotation.Timed;
 import java.net.URI;
 import java.util.List;
 import javax.validation.Valid;
@@ -17,6 +18,7 @@ import subway.dto.LineResponse;
 import subway.dto.LineSaveRequest;
 import subway.dto.LineUpdateRequest;
 
+@Timed(histogram = true)
 @RequestMapping("/lines")
 @RestController
 public class LineController {
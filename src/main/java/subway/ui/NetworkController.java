@@ -0,0 +1,68 @@
+package subway.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.application.NetworkExportService;
+import subway.application.NetworkFormat;
+import subway.application.NetworkImportService;
+import subway.dto.NetworkImportResponse;
+
+@RequestMapping("/network")
+@RestController
+public class NetworkController {
+
+    private static final String GZIP = "gzip";
+
+    private final NetworkImportService networkImportService;
+    private final NetworkExportService networkExportService;
+    private final ObjectMapper objectMapper;
+
+    public NetworkController(
+            final NetworkImportService networkImportService,
+            final NetworkExportService networkExportService,
+            final ObjectMapper objectMapper
+    ) {
+        this.networkImportService = networkImportService;
+        this.networkExportService = networkExportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<NetworkImportResponse> importNetwork(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) final String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) final String contentEncoding,
+            final InputStream body
+    ) throws IOException {
+        final NetworkFormat format = NetworkFormat.fromMediaType(contentType);
+        try (BufferedReader reader = NetworkFormat.open(body, GZIP.equalsIgnoreCase(contentEncoding))) {
+            return ResponseEntity.ok(networkImportService.importNetwork(format.read(reader, objectMapper)));
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON") final NetworkFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    ) {
+        final boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+        final StreamingResponseBody body = outputStream -> networkExportService.export(format, outputStream, gzip);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()));
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(body);
+    }
+}
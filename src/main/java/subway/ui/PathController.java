@@ -1,5 +1,6 @@
 package subway.ui;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -9,6 +10,7 @@ import subway.dto.ShortestPathRequest;
 import subway.dto.ShortestPathResponse;
 import subway.exception.NotValidException;
 
+@Timed(histogram = true)
 @RestController
 public class PathController {
 
@@ -1,5 +1,6 @@
 package subway.ui;
 
+import io.micrometer.core.annotation.Timed;
 import javax.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,6 +12,7 @@ import subway.dto.StationDeleteRequest;
 import subway.dto.StationInitialSaveRequest;
 import subway.dto.StationSaveRequest;
 
+@Timed(histogram = true)
 @RestController
 public class StationController {
 
@@ -0,0 +1,39 @@
+CREATE TABLE STATION_DEDUPLICATED
+(
+    id   BIGINT AUTO_INCREMENT NOT NULL,
+    name VARCHAR(255)          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_station_name UNIQUE (name)
+);
+
+INSERT INTO STATION_DEDUPLICATED (id, name)
+SELECT MIN(id), name
+FROM STATION
+GROUP BY name;
+
+CREATE TABLE SECTION_REMAPPED
+(
+    id               BIGINT AUTO_INCREMENT NOT NULL,
+    start_station_id BIGINT                NOT NULL,
+    end_station_id   BIGINT                NOT NULL,
+    distance         INT                   NOT NULL,
+    line_id          BIGINT                NOT NULL,
+    PRIMARY KEY (id),
+    FOREIGN KEY (start_station_id) REFERENCES STATION_DEDUPLICATED (id) ON DELETE CASCADE,
+    FOREIGN KEY (end_station_id) REFERENCES STATION_DEDUPLICATED (id) ON DELETE CASCADE,
+    FOREIGN KEY (line_id) REFERENCES LINE (id) ON DELETE CASCADE
+);
+
+INSERT INTO SECTION_REMAPPED (id, start_station_id, end_station_id, distance, line_id)
+SELECT s.id, new_start.id, new_end.id, s.distance, s.line_id
+FROM SECTION s
+         JOIN STATION old_start ON old_start.id = s.start_station_id
+         JOIN STATION_DEDUPLICATED new_start ON new_start.name = old_start.name
+         JOIN STATION old_end ON old_end.id = s.end_station_id
+         JOIN STATION_DEDUPLICATED new_end ON new_end.name = old_end.name;
+
+DROP TABLE SECTION;
+DROP TABLE STATION;
+
+ALTER TABLE STATION_DEDUPLICATED RENAME TO STATION;
+ALTER TABLE SECTION_REMAPPED RENAME TO SECTION;
@@ -0,0 +1,4 @@
+ALTER TABLE LINE
+    ADD CONSTRAINT uk_line_name UNIQUE (name);
+
+CREATE INDEX ix_section_line_id ON SECTION (line_id, start_station_id, end_station_id, distance);
@@ -0,0 +1 @@
+ALTER TABLE LINE ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
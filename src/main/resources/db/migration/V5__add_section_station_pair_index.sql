@@ -0,0 +1 @@
+CREATE INDEX ix_section_station_pair ON SECTION (start_station_id, end_station_id);
@@ -0,0 +1,79 @@
+package subway.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class AccessLogBufferTest {
+
+    @Test
+    void 버퍼에_넣은_로그를_별도_스레드에서_기록한다() {
+        // given
+        final List<String> writerThreads = Collections.synchronizedList(new ArrayList<>());
+        final AccessLogBuffer accessLogBuffer = new AccessLogBuffer(10, event ->
+                writerThreads.add(Thread.currentThread().getName())
+        );
+
+        // when
+        accessLogBuffer.publish(event("/lines"));
+        accessLogBuffer.publish(event("/path"));
+        accessLogBuffer.close();
+
+        // then
+        assertAll(
+                () -> assertThat(writerThreads).hasSize(2),
+                () -> assertThat(writerThreads).doesNotContain(Thread.currentThread().getName()),
+                () -> assertThat(accessLogBuffer.getDroppedCount()).isZero()
+        );
+    }
+
+    @Test
+    void 버퍼가_가득_차면_요청_스레드를_막지_않고_로그를_버린다() throws Exception {
+        // given
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> written = Collections.synchronizedList(new ArrayList<>());
+        final AccessLogBuffer accessLogBuffer = new AccessLogBuffer(2, event -> {
+            writing.countDown();
+            await(release);
+            written.add(event.getUri());
+        });
+        accessLogBuffer.publish(event("/first"));
+        writing.await(5, TimeUnit.SECONDS);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            accessLogBuffer.publish(event("/lines/" + i));
+        }
+        release.countDown();
+        accessLogBuffer.close();
+
+        // then
+        assertAll(
+                () -> assertThat(accessLogBuffer.getDroppedCount()).isEqualTo(3),
+                () -> assertThat(written).containsExactly("/first", "/lines/0", "/lines/1")
+        );
+    }
+
+    private AccessLogEvent event(final String uri) {
+        return new AccessLogEvent("2023-01-01T00:00:00Z", "GET", uri, null, 200, 1.0, "127.0.0.1", null, null, null, null);
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
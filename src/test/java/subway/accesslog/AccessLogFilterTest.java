@@ -0,0 +1,153 @@
+package subway.accesslog;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class AccessLogFilterTest {
+
+    private final List<AccessLogEvent> events = Collections.synchronizedList(new ArrayList<>());
+    private final AccessLogBuffer accessLogBuffer = new AccessLogBuffer(100, events::add);
+
+    @Test
+    void 헤더_모드는_본문_없이_헤더만_기록하고_민감한_헤더는_가린다() throws Exception {
+        // given
+        final AccessLogFilter filter = new AccessLogFilter(accessLogBuffer, 1.0, AccessLogMode.HEADERS, 1024, false, 0, 0);
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/lines");
+        request.addHeader("Authorization", "Bearer secret");
+        request.addHeader("Accept", "application/json");
+        request.setContent("{\"name\":\"2호선\"}".getBytes(UTF_8));
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain(201, "{\"id\":1}"));
+        accessLogBuffer.close();
+
+        // then
+        final AccessLogEvent event = events.get(0);
+        assertAll(
+                () -> assertThat(events).hasSize(1),
+                () -> assertThat(event.getMethod()).isEqualTo("POST"),
+                () -> assertThat(event.getUri()).isEqualTo("/lines"),
+                () -> assertThat(event.getStatus()).isEqualTo(201),
+                () -> assertThat(event.getRequestHeaders())
+                        .containsEntry("Authorization", "****")
+                        .containsEntry("Accept", "application/json"),
+                () -> assertThat(event.getRequestBody()).isNull(),
+                () -> assertThat(event.getResponseBody()).isNull()
+        );
+    }
+
+    @Test
+    void 본문_모드는_최대_크기까지만_본문을_기록한다() throws Exception {
+        // given
+        final AccessLogFilter filter = new AccessLogFilter(accessLogBuffer, 1.0, AccessLogMode.BODY, 4, false, 0, 0);
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/stations");
+        request.setContent("abcdefgh".getBytes(UTF_8));
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain(200, "0123456789"));
+        accessLogBuffer.close();
+
+        // then
+        final AccessLogEvent event = events.get(0);
+        assertAll(
+                () -> assertThat(event.getRequestBody().getContent()).isEqualTo("abcd"),
+                () -> assertThat(event.getRequestBody().getSize()).isEqualTo(8),
+                () -> assertThat(event.getRequestBody().isTruncated()).isTrue(),
+                () -> assertThat(event.getResponseBody().getContent()).isEqualTo("0123"),
+                () -> assertThat(event.getResponseBody().getSize()).isEqualTo(10),
+                () -> assertThat(event.getResponseBody().isTruncated()).isTrue()
+        );
+    }
+
+    @Test
+    void 표본에서_빠진_요청도_오류_응답이면_본문_전체를_기록한다() throws Exception {
+        // given
+        final AccessLogFilter filter = new AccessLogFilter(accessLogBuffer, 0.0, AccessLogMode.HEADERS, 4, true, 1024, 1024);
+        final MockHttpServletRequest succeeded = new MockHttpServletRequest("GET", "/lines");
+        final MockHttpServletRequest failed = new MockHttpServletRequest("POST", "/stations");
+        failed.setContent("{\"lineName\":\"2호선\"}".getBytes(UTF_8));
+
+        // when
+        filter.doFilter(succeeded, new MockHttpServletResponse(), chain(200, "[]"));
+        filter.doFilter(failed, new MockHttpServletResponse(), chain(400, "{\"message\":\"기준역이 존재하지 않습니다.\"}"));
+        accessLogBuffer.close();
+
+        // then
+        final AccessLogEvent event = events.get(0);
+        assertAll(
+                () -> assertThat(events).hasSize(1),
+                () -> assertThat(event.getStatus()).isEqualTo(400),
+                () -> assertThat(event.getRequestBody().getContent()).isEqualTo("{\"lineName\":\"2호선\"}"),
+                () -> assertThat(event.getResponseBody().getContent()).isEqualTo("{\"message\":\"기준역이 존재하지 않습니다.\"}"),
+                () -> assertThat(event.getResponseBody().isTruncated()).isFalse()
+        );
+    }
+
+    @Test
+    void 표본에서_빠진_요청은_요청_본문의_앞부분만_복사해_두었다가_오류_응답일_때_기록한다() throws Exception {
+        // given
+        final AccessLogFilter filter = new AccessLogFilter(accessLogBuffer, 0.0, AccessLogMode.HEADERS, 4, true, 1024, 8);
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/stations");
+        request.setContent("{\"lineName\":\"2호선\"}".getBytes(UTF_8));
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain(400, "{\"message\":\"기준역이 존재하지 않습니다.\"}"));
+        accessLogBuffer.close();
+
+        // then
+        final AccessLogEvent event = events.get(0);
+        assertAll(
+                () -> assertThat(event.getRequestBody().getContent()).isEqualTo("{\"lineNa"),
+                () -> assertThat(event.getRequestBody().isTruncated()).isTrue(),
+                () -> assertThat(event.getResponseBody().getContent()).isEqualTo("{\"message\":\"기준역이 존재하지 않습니다.\"}"),
+                () -> assertThat(event.getResponseBody().isTruncated()).isFalse()
+        );
+    }
+
+    @Test
+    void 표본에서_빠지고_오류_본문도_기록하지_않으면_요청을_감싸지_않는다() throws Exception {
+        // given
+        final AccessLogFilter filter = new AccessLogFilter(accessLogBuffer, 0.0, AccessLogMode.BODY, 1024, false, 0, 0);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/lines");
+        final MockFilterChain filterChain = chain(500, "");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        accessLogBuffer.close();
+
+        // then
+        assertAll(
+                () -> assertThat(filterChain.getRequest()).isSameAs(request),
+                () -> assertThat(events).isEmpty()
+        );
+    }
+
+    private MockFilterChain chain(final int status, final String responseBody) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest request, final HttpServletResponse response)
+                    throws IOException {
+                request.getInputStream().readAllBytes();
+                response.setStatus(status);
+                response.getOutputStream().write(responseBody.getBytes(UTF_8));
+            }
+        });
+    }
+}
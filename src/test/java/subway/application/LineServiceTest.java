@@ -17,6 +17,7 @@ import subway.domain.Section;
 import subway.dto.LineResponse;
 import subway.dto.LineSaveRequest;
 import subway.dto.LineUpdateRequest;
+import subway.exception.DuplicateLineNameException;
 import subway.exception.LineNotFoundException;
 import subway.repository.LineRepository;
 
@@ -122,6 +123,21 @@ class LineServiceTest {
 
     @Nested
     class 예외_테스트 {
+        @Test
+        void 이미_존재하는_이름으로_노선을_생성할_경우_예외를_던진다() {
+            // given
+            lineRepository.save(new Line("1호선", "RED", List.of(new Section("A", "B", 5))));
+
+            // expect
+            assertAll(
+                    () -> assertThatThrownBy(() -> lineService.save(new LineSaveRequest("1호선", "BLUE")))
+                            .isInstanceOf(DuplicateLineNameException.class)
+                            .hasMessage("이미 존재하는 노선 이름입니다."),
+                    () -> assertThat(lineRepository.findByName("1호선").getSections())
+                            .containsExactly(new Section("A", "B", 5))
+            );
+        }
+
         @Test
         void 존재하지_않는_id의_노선을_삭제할_경우_예외를_던진다() {
             // expect
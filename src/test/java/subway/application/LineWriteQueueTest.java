@@ -0,0 +1,240 @@
+package subway.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import subway.domain.Subway;
+import subway.exception.InvalidSectionException;
+import subway.exception.LineWriteUnavailableException;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class LineWriteQueueTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void 노선을_쓰는_동안_들어온_명령을_모아서_한번에_쓴다() throws Exception {
+        // given
+        final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+        final LineWriteQueue lineWriteQueue = new LineWriteQueue(executorService, 100, TIMEOUT);
+        final LineWriteQueue.BatchWriter batchWriter = (lineName, batch) -> {
+            final int appliedBefore = applied.size();
+            batch.apply(new Subway(Collections.emptyList()));
+            batchSizes.add(applied.size() - appliedBefore);
+            firstBatchStarted.countDown();
+            await(releaseFirstBatch);
+        };
+        final CompletableFuture<Void> first = CompletableFuture.runAsync(
+                () -> lineWriteQueue.execute("1호선", subway -> applied.add(0), batchWriter), executorService
+        );
+        firstBatchStarted.await(5, TimeUnit.SECONDS);
+
+        // when
+        final List<CompletableFuture<Void>> queued = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            final int value = i;
+            queued.add(CompletableFuture.runAsync(
+                    () -> lineWriteQueue.execute("1호선", subway -> applied.add(value), batchWriter), executorService
+            ));
+        }
+        Thread.sleep(100);
+        releaseFirstBatch.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        CompletableFuture.allOf(queued.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertAll(
+                () -> assertThat(batchSizes).containsExactly(1, 3),
+                () -> assertThat(applied).containsExactlyInAnyOrder(0, 1, 2, 3)
+        );
+    }
+
+    @Test
+    void 같은_묶음에서_실패한_명령만_예외를_던지고_다른_명령은_반영된다() throws Exception {
+        // given
+        final List<Runnable> scheduledWriters = Collections.synchronizedList(new ArrayList<>());
+        final List<String> saved = new ArrayList<>();
+        final List<String> applied = Collections.synchronizedList(new ArrayList<>());
+        final LineWriteQueue lineWriteQueue = new LineWriteQueue(scheduledWriters::add, 100, TIMEOUT);
+        final LineWriteQueue.BatchWriter batchWriter = (lineName, batch) -> {
+            batch.apply(new Subway(Collections.emptyList()));
+            saved.add(lineName);
+        };
+        final CompletableFuture<Void> succeeded = CompletableFuture.runAsync(
+                () -> lineWriteQueue.execute("1호선", subway -> applied.add("A"), batchWriter), executorService
+        );
+        final CompletableFuture<Void> failed = CompletableFuture.runAsync(
+                () -> lineWriteQueue.execute("1호선", subway -> {
+                    throw new InvalidSectionException("기준역이 존재하지 않습니다.");
+                }, batchWriter), executorService
+        );
+        Thread.sleep(100);
+
+        // when
+        scheduledWriters.get(0).run();
+
+        // then
+        succeeded.get(5, TimeUnit.SECONDS);
+        assertAll(
+                () -> assertThat(scheduledWriters).hasSize(2),
+                () -> assertThat(saved).containsExactly("1호선"),
+                () -> assertThat(applied).containsExactly("A"),
+                () -> assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(InvalidSectionException.class)
+                        .hasRootCauseMessage("기준역이 존재하지 않습니다.")
+        );
+    }
+
+    @Test
+    void 노선을_쓰다가_실패하면_묶음의_모든_명령이_예외를_던진다() {
+        // given
+        final LineWriteQueue lineWriteQueue = new LineWriteQueue(Runnable::run, 100, TIMEOUT);
+
+        // expect
+        assertThatThrownBy(() -> lineWriteQueue.execute("1호선", subway -> {
+        }, (lineName, batch) -> {
+            throw new IllegalStateException("저장에 실패했습니다.");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("저장에 실패했습니다.");
+    }
+
+    @Test
+    void 묶음의_모든_명령이_실패하면_저장하지_않고_각_명령이_자신의_예외를_던진다() throws Exception {
+        // given
+        final List<Runnable> scheduledWriters = Collections.synchronizedList(new ArrayList<>());
+        final List<String> saved = new ArrayList<>();
+        final LineWriteQueue lineWriteQueue = new LineWriteQueue(scheduledWriters::add, 100, TIMEOUT);
+        final LineWriteQueue.BatchWriter batchWriter = (lineName, batch) -> {
+            batch.apply(new Subway(Collections.emptyList()));
+            saved.add(lineName);
+        };
+        final CompletableFuture<Void> first = CompletableFuture.runAsync(
+                () -> lineWriteQueue.execute("1호선", subway -> {
+                    throw new InvalidSectionException("기준역이 존재하지 않습니다.");
+                }, batchWriter), executorService
+        );
+        final CompletableFuture<Void> second = CompletableFuture.runAsync(
+                () -> lineWriteQueue.execute("1호선", subway -> {
+                    throw new InvalidSectionException("이미 존재하는 역입니다.");
+                }, batchWriter), executorService
+        );
+        Thread.sleep(100);
+
+        // when
+        scheduledWriters.get(0).run();
+
+        // then
+        assertAll(
+                () -> assertThat(saved).isEmpty(),
+                () -> assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                        .hasRootCauseMessage("기준역이 존재하지 않습니다."),
+                () -> assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                        .hasRootCauseMessage("이미 존재하는 역입니다.")
+        );
+    }
+
+    @Test
+    void 제한_시간_안에_처리되지_않은_명령은_큐에서_빼고_예외를_던진다() {
+        // given
+        final List<Runnable> scheduledWriters = new ArrayList<>();
+        final List<String> applied = new ArrayList<>();
+        final LineWriteQueue lineWriteQueue = new LineWriteQueue(scheduledWriters::add, 100, Duration.ofMillis(50));
+        final LineWriteQueue.BatchWriter batchWriter = (lineName, batch) -> batch.apply(
+                new Subway(Collections.emptyList())
+        );
+
+        // when
+        assertThatThrownBy(() -> lineWriteQueue.execute("1호선", subway -> applied.add("A"), batchWriter))
+                .isInstanceOf(LineWriteUnavailableException.class);
+        scheduledWriters.get(0).run();
+
+        // then
+        assertThat(applied).isEmpty();
+    }
+
+    @Test
+    void 이미_쓰고_있는_명령은_제한_시간이_지나도_실제_결과를_기다린다() {
+        // given
+        final List<String> applied = Collections.synchronizedList(new ArrayList<>());
+        final LineWriteQueue lineWriteQueue = new LineWriteQueue(executorService, 100, Duration.ofMillis(50));
+        final LineWriteQueue.BatchWriter batchWriter = (lineName, batch) -> {
+            batch.apply(new Subway(Collections.emptyList()));
+            sleep(200);
+        };
+
+        // when
+        lineWriteQueue.execute("1호선", subway -> applied.add("A"), batchWriter);
+
+        // then
+        assertThat(applied).containsExactly("A");
+    }
+
+    @Test
+    void 작성자는_묶음_하나를_쓰고_나면_스레드를_양보한다() {
+        // given
+        final List<Runnable> scheduledWriters = Collections.synchronizedList(new ArrayList<>());
+        final List<String> applied = Collections.synchronizedList(new ArrayList<>());
+        final LineWriteQueue lineWriteQueue = new LineWriteQueue(scheduledWriters::add, 1, TIMEOUT);
+        final LineWriteQueue.BatchWriter batchWriter = (lineName, batch) -> batch.apply(
+                new Subway(Collections.emptyList())
+        );
+        CompletableFuture.runAsync(() -> lineWriteQueue.execute("1호선", subway -> applied.add("A"), batchWriter),
+                executorService);
+        CompletableFuture.runAsync(() -> lineWriteQueue.execute("1호선", subway -> applied.add("B"), batchWriter),
+                executorService);
+        CompletableFuture.runAsync(() -> lineWriteQueue.execute("2호선", subway -> applied.add("C"), batchWriter),
+                executorService);
+        sleep(100);
+
+        // when
+        scheduledWriters.get(0).run();
+
+        // then
+        assertAll(
+                () -> assertThat(applied).hasSize(1),
+                () -> assertThat(scheduledWriters).hasSize(3)
+        );
+    }
+
+    private void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
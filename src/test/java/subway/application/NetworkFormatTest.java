@@ -0,0 +1,58 @@
+package subway.application;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import subway.dto.NetworkRecord;
+import subway.exception.NotValidException;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class NetworkFormatTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 쉼표나_따옴표나_줄바꿈이_들어간_이름도_CSV로_내보낸_그대로_다시_읽는다() throws IOException {
+        // given
+        final List<NetworkRecord> records = List.of(
+                NetworkRecord.ofLine("1,2호선", "RED"),
+                new NetworkRecord("1,2호선", "RED", "서울역, 1번 출구", "\"시청\"", 5),
+                new NetworkRecord("1,2호선", "RED", "\"시청\"", "종각\n앞", 3)
+        );
+        final StringWriter writer = new StringWriter();
+        NetworkFormat.CSV.writeHeader(writer);
+        for (NetworkRecord record : records) {
+            NetworkFormat.CSV.write(writer, record, objectMapper);
+        }
+
+        // when
+        final List<NetworkRecord> result = NetworkFormat.CSV
+                .read(new BufferedReader(new StringReader(writer.toString())), objectMapper)
+                .collect(toList());
+
+        // then
+        assertThat(result).usingRecursiveComparison().isEqualTo(records);
+    }
+
+    @Test
+    void 따옴표가_닫히지_않은_CSV는_가져올_수_없다() {
+        // given
+        final BufferedReader reader = new BufferedReader(new StringReader("\"1,2호선,RED,A,B,5\n"));
+
+        // expect
+        assertThatThrownBy(() -> NetworkFormat.CSV.read(reader, objectMapper).collect(toList()))
+                .isInstanceOf(NotValidException.class)
+                .hasMessageStartingWith("가져올 노선도의 형식이 올바르지 않습니다");
+    }
+}
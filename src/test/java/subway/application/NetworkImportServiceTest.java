@@ -0,0 +1,106 @@
+package subway.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.dto.NetworkImportResponse;
+import subway.dto.NetworkRecord;
+import subway.exception.DuplicateLineNameException;
+import subway.exception.InvalidSectionException;
+import subway.exception.NotValidException;
+import subway.repository.LineRepository;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+@Transactional
+@SpringBootTest
+class NetworkImportServiceTest {
+
+    @Autowired
+    private NetworkImportService networkImportService;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Test
+    void 노선도를_한번에_가져온다() {
+        // given
+        final Stream<NetworkRecord> records = Stream.of(
+                new NetworkRecord("1호선", "RED", "B", "C", 3),
+                new NetworkRecord("1호선", "RED", "A", "B", 2),
+                new NetworkRecord("2호선", "BLUE", "Z", "B", 4),
+                NetworkRecord.ofLine("3호선", "GREEN")
+        );
+
+        // when
+        final NetworkImportResponse response = networkImportService.importNetwork(records);
+
+        // then
+        final List<Line> lines = lineRepository.findAll();
+        assertAll(
+                () -> assertThat(response.getLines()).isEqualTo(3),
+                () -> assertThat(response.getStations()).isEqualTo(4),
+                () -> assertThat(response.getSections()).isEqualTo(3),
+                () -> assertThat(lines).extracting(Line::getName).containsExactly("1호선", "2호선", "3호선"),
+                () -> assertThat(lines).flatExtracting(Line::getSections).containsExactlyInAnyOrder(
+                        new Section("A", "B", 2),
+                        new Section("B", "C", 3),
+                        new Section("Z", "B", 4)
+                )
+        );
+    }
+
+    @Test
+    void 이어지지_않은_구간이_있으면_아무것도_저장하지_않는다() {
+        // given
+        final Stream<NetworkRecord> records = Stream.of(
+                new NetworkRecord("1호선", "RED", "A", "B", 2),
+                new NetworkRecord("2호선", "BLUE", "X", "Y", 2),
+                new NetworkRecord("2호선", "BLUE", "Z", "W", 3)
+        );
+
+        // expect
+        assertAll(
+                () -> assertThatThrownBy(() -> networkImportService.importNetwork(records))
+                        .isInstanceOf(InvalidSectionException.class)
+                        .hasMessage("노선의 구간이 하나로 이어져 있지 않습니다."),
+                () -> assertThat(lineRepository.findAll()).isEmpty()
+        );
+    }
+
+    @Test
+    void 이미_존재하는_노선을_가져오면_예외를_던진다() {
+        // given
+        lineRepository.save(new Line("1호선", "RED", List.of(new Section("A", "B", 2))));
+        final Stream<NetworkRecord> records = Stream.of(new NetworkRecord("1호선", "RED", "C", "D", 2));
+
+        // expect
+        assertThatThrownBy(() -> networkImportService.importNetwork(records))
+                .isInstanceOf(DuplicateLineNameException.class);
+    }
+
+    @Test
+    void 한_노선에_서로_다른_색상이_입력되면_예외를_던진다() {
+        // given
+        final Stream<NetworkRecord> records = Stream.of(
+                new NetworkRecord("1호선", "RED", "A", "B", 2),
+                new NetworkRecord("1호선", "BLUE", "B", "C", 2)
+        );
+
+        // expect
+        assertThatThrownBy(() -> networkImportService.importNetwork(records))
+                .isInstanceOf(NotValidException.class)
+                .hasMessage("한 노선에 서로 다른 색상이 입력되었습니다: 1호선");
+    }
+}
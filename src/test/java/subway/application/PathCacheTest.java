@@ -0,0 +1,126 @@
+package subway.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import subway.dto.ShortestPathResponse;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class PathCacheTest {
+
+    private static final ShortestPathResponse RESPONSE = new ShortestPathResponse(List.of("A", "B", "D"), 4, 1250);
+
+    @Test
+    void 저장한_경로를_조회한다() {
+        // given
+        final PathCache pathCache = new PathCache(10, Duration.ofMinutes(10));
+        pathCache.put("A", "D", 1L, RESPONSE);
+
+        // when
+        final Optional<ShortestPathResponse> result = pathCache.get("A", "D", 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(result).hasValueSatisfying(response ->
+                        assertThat(response).usingRecursiveComparison().isEqualTo(RESPONSE)),
+                () -> assertThat(pathCache.getHitCount()).isEqualTo(1),
+                () -> assertThat(pathCache.getMissCount()).isZero()
+        );
+    }
+
+    @Test
+    void 출발역과_도착역을_바꾸면_뒤집은_경로를_반환한다() {
+        // given
+        final PathCache pathCache = new PathCache(10, Duration.ofMinutes(10));
+        pathCache.put("A", "D", 1L, RESPONSE);
+
+        // when
+        final Optional<ShortestPathResponse> result = pathCache.get("D", "A", 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(result).hasValueSatisfying(response -> assertAll(
+                        () -> assertThat(response.getPath()).containsExactly("D", "B", "A"),
+                        () -> assertThat(response.getDistance()).isEqualTo(4),
+                        () -> assertThat(response.getFare()).isEqualTo(1250)
+                )),
+                () -> assertThat(pathCache.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 노선도_버전이_바뀌면_저장한_경로를_사용하지_않는다() {
+        // given
+        final PathCache pathCache = new PathCache(10, Duration.ofMinutes(10));
+        pathCache.put("A", "D", 1L, RESPONSE);
+
+        // when
+        final Optional<ShortestPathResponse> result = pathCache.get("A", "D", 2L);
+
+        // then
+        assertAll(
+                () -> assertThat(result).isEmpty(),
+                () -> assertThat(pathCache.getMissCount()).isEqualTo(1),
+                () -> assertThat(pathCache.size()).isZero()
+        );
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용하지_않은_경로를_제거한다() {
+        // given
+        final PathCache pathCache = new PathCache(2, Duration.ofMinutes(10));
+        pathCache.put("A", "B", 1L, RESPONSE);
+        pathCache.put("A", "C", 1L, RESPONSE);
+        pathCache.get("A", "B", 1L);
+
+        // when
+        pathCache.put("A", "D", 1L, RESPONSE);
+
+        // then
+        assertAll(
+                () -> assertThat(pathCache.getEvictionCount()).isEqualTo(1),
+                () -> assertThat(pathCache.get("A", "C", 1L)).isEmpty(),
+                () -> assertThat(pathCache.get("A", "B", 1L)).isPresent(),
+                () -> assertThat(pathCache.get("A", "D", 1L)).isPresent()
+        );
+    }
+
+    @Test
+    void 유효_기간이_지난_경로는_제거한다() {
+        // given
+        final PathCache pathCache = new PathCache(10, Duration.ZERO);
+        pathCache.put("A", "D", 1L, RESPONSE);
+
+        // when
+        final Optional<ShortestPathResponse> result = pathCache.get("A", "D", 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(result).isEmpty(),
+                () -> assertThat(pathCache.getEvictionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 조회한_횟수_중_저장된_경로를_찾은_비율을_계산한다() {
+        // given
+        final PathCache pathCache = new PathCache(10, Duration.ofMinutes(10));
+        pathCache.put("A", "D", 1L, RESPONSE);
+
+        // when
+        pathCache.get("A", "D", 1L);
+        pathCache.get("D", "A", 1L);
+        pathCache.get("A", "C", 1L);
+        pathCache.get("B", "C", 1L);
+
+        // then
+        assertThat(pathCache.getHitRatio()).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,47 @@
+package subway.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.path.Path;
+import subway.repository.LineRepository;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+@Transactional
+@SpringBootTest
+class RoutingGraphTest {
+
+    @Autowired
+    private RoutingGraph routingGraph;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Test
+    void 트랜잭션_안에서_변경한_노선으로_경로를_조회한다() {
+        // given
+        lineRepository.save(new Line("1호선", "RED", List.of(
+                new Section("A", "B", 2),
+                new Section("B", "C", 3)
+        )));
+
+        // when
+        final Path result = routingGraph.find("A", "C");
+
+        // then
+        assertAll(
+                () -> assertThat(result.getAllStationName()).containsExactly("A", "B", "C"),
+                () -> assertThat(result.getDistance()).isEqualTo(5)
+        );
+    }
+}
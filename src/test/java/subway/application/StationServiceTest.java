@@ -1,21 +1,31 @@
 package subway.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static subway.domain.Direction.LEFT;
 import static subway.domain.Direction.RIGHT;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import subway.domain.Line;
 import subway.domain.Section;
 import subway.dto.StationDeleteRequest;
 import subway.dto.StationInitialSaveRequest;
 import subway.dto.StationSaveRequest;
+import subway.exception.InvalidSectionException;
 import subway.repository.LineRepository;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -92,4 +102,59 @@ public class StationServiceTest {
                 new Section("A", "B", 3)
         );
     }
+
+    @Test
+    void 다른_노선에_이미_존재하는_구간을_등록하면_예외를_던진다() {
+        // given
+        lineRepository.save(new Line("1호선", "RED", List.of(
+                new Section("A", "B", 2)
+        )));
+        lineRepository.save(new Line("2호선", "BLUE", List.of(
+                new Section("C", "B", 2)
+        )));
+        final StationSaveRequest request = new StationSaveRequest("1호선", "B", "C", RIGHT, 3);
+
+        // expect
+        assertThatThrownBy(() -> stationService.save(request))
+                .isInstanceOf(InvalidSectionException.class)
+                .hasMessage("지하철 전체 노선에 이미 존재하는 구간입니다.");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Sql(value = "/deleteAll.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void 같은_노선을_동시에_수정하면_충돌한_요청을_다시_시도한다() throws Exception {
+        // given
+        lineRepository.save(new Line("1호선", "RED", List.of(
+                new Section("A", "B", 5)
+        )));
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        // when
+        final List<Future<?>> futures = List.of(
+                executorService.submit(() -> {
+                    startLatch.await();
+                    stationService.save(new StationSaveRequest("1호선", "B", "C", RIGHT, 3));
+                    return null;
+                }),
+                executorService.submit(() -> {
+                    startLatch.await();
+                    stationService.save(new StationSaveRequest("1호선", "A", "D", LEFT, 3));
+                    return null;
+                })
+        );
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(lineRepository.findAll()).flatExtracting(Line::getSections).containsExactlyInAnyOrder(
+                new Section("D", "A", 3),
+                new Section("A", "B", 5),
+                new Section("B", "C", 3)
+        );
+    }
 }
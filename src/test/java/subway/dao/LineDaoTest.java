@@ -1,6 +1,8 @@
 package subway.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import subway.entity.LineEntity;
 
@@ -54,6 +57,26 @@ class LineDaoTest {
         assertThat(lineDao.findById(newLine.getId()).get()).isEqualTo(newLine);
     }
 
+    @Test
+    void 버전이_일치할_때만_노선을_수정하고_버전을_올린다() {
+        // given
+        final LineEntity insertLine = lineDao.insert(new LineEntity("1호선", "RED"));
+        final LineEntity newLine = new LineEntity(insertLine.getId(), "1호선", "BLUE", 0L);
+
+        // when
+        final boolean firstUpdated = lineDao.updateIfVersionMatches(newLine);
+        final boolean secondUpdated = lineDao.updateIfVersionMatches(newLine);
+
+        // then
+        final LineEntity result = lineDao.findById(insertLine.getId()).get();
+        assertAll(
+                () -> assertThat(firstUpdated).isTrue(),
+                () -> assertThat(secondUpdated).isFalse(),
+                () -> assertThat(result.getColor()).isEqualTo("BLUE"),
+                () -> assertThat(result.getVersion()).isEqualTo(1L)
+        );
+    }
+
     @Test
     void 노선을_삭제한다() {
         // given
@@ -107,4 +130,14 @@ class LineDaoTest {
         // then
         assertThat(result).isPresent();
     }
+
+    @Test
+    void 이미_존재하는_이름의_노선을_추가하면_예외를_던진다() {
+        // given
+        lineDao.insert(new LineEntity("1호선", "RED"));
+
+        // expect
+        assertThatThrownBy(() -> lineDao.insert(new LineEntity("1호선", "BLUE")))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
 }
@@ -0,0 +1,65 @@
+package subway.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class MigrationTest {
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "sa",
+            ""
+    );
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @Test
+    void 기존_스키마로_만든_DB는_역을_이름별_한_행으로_합치고_구간이_남은_역을_가리키게_한다() {
+        // given
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__create_tables.sql")).execute(dataSource);
+        jdbcTemplate.update("INSERT INTO LINE (id, name, color) VALUES (1, '1호선', 'RED'), (2, '2호선', 'BLUE')");
+        jdbcTemplate.update("INSERT INTO STATION (id, name, line_id) VALUES "
+                + "(1, 'A', 1), (2, 'B', 1), (3, 'C', 1), (4, 'B', 2), (5, 'D', 2)");
+        jdbcTemplate.update("INSERT INTO SECTION (start_station_id, end_station_id, distance, line_id) VALUES "
+                + "(1, 2, 3, 1), (2, 3, 4, 1), (4, 5, 5, 2)");
+
+        // when
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        // then
+        final List<String> sections = jdbcTemplate.queryForList(
+                "SELECT CONCAT(l.name, ':', start_station.name, '-', end_station.name) "
+                        + "FROM SECTION s "
+                        + "JOIN LINE l ON l.id = s.line_id "
+                        + "JOIN STATION start_station ON start_station.id = s.start_station_id "
+                        + "JOIN STATION end_station ON end_station.id = s.end_station_id "
+                        + "ORDER BY s.id",
+                String.class
+        );
+        assertAll(
+                () -> assertThat(jdbcTemplate.queryForList("SELECT id FROM STATION ORDER BY id", Long.class))
+                        .containsExactly(1L, 2L, 3L, 5L),
+                () -> assertThat(sections).containsExactly("1호선:A-B", "1호선:B-C", "2호선:B-D"),
+                () -> assertThat(jdbcTemplate.queryForList(
+                        "SELECT start_station_id FROM SECTION WHERE line_id = 2", Long.class
+                )).containsExactly(2L)
+        );
+    }
+}
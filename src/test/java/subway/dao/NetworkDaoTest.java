@@ -0,0 +1,64 @@
+package subway.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import subway.dto.NetworkRecord;
+import subway.entity.LineEntity;
+import subway.entity.SectionEntity;
+import subway.entity.StationEntity;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+@JdbcTest
+public class NetworkDaoTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private NetworkDao networkDao;
+    private SectionDao sectionDao;
+    private LineDao lineDao;
+    private StationDao stationDao;
+
+    @BeforeEach
+    void setUp() {
+        networkDao = new NetworkDao(jdbcTemplate, 1);
+        sectionDao = new SectionDao(jdbcTemplate);
+        lineDao = new LineDao(jdbcTemplate);
+        stationDao = new StationDao(jdbcTemplate);
+    }
+
+    @Test
+    void 노선과_구간을_역_이름과_함께_한_행씩_조회한다() {
+        // given
+        final LineEntity line1 = lineDao.insert(new LineEntity("1호선", "RED"));
+        lineDao.insert(new LineEntity("2호선", "BLUE"));
+        final Long stationA = stationDao.insert(new StationEntity("A")).getId();
+        final Long stationB = stationDao.insert(new StationEntity("B")).getId();
+        final Long stationC = stationDao.insert(new StationEntity("C")).getId();
+        sectionDao.insertAll(List.of(
+                new SectionEntity(stationA, stationB, 3, line1.getId()),
+                new SectionEntity(stationB, stationC, 5, line1.getId())
+        ));
+
+        // when
+        final List<NetworkRecord> records = new ArrayList<>();
+        networkDao.forEachRecord(records::add);
+
+        // then
+        assertThat(records).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrder(
+                new NetworkRecord("1호선", "RED", "A", "B", 3),
+                new NetworkRecord("1호선", "RED", "B", "C", 5),
+                NetworkRecord.ofLine("2호선", "BLUE")
+        );
+    }
+}
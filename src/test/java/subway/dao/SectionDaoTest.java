@@ -1,6 +1,7 @@
 package subway.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,13 +38,13 @@ public class SectionDaoTest {
     void 구간을_전체_저장한다() {
         // given
         final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        stationDao.insert(new StationEntity("A", line.getId()));
-        stationDao.insert(new StationEntity("B", line.getId()));
-        stationDao.insert(new StationEntity("C", line.getId()));
+        final Long stationA = stationDao.insert(new StationEntity("A")).getId();
+        final Long stationB = stationDao.insert(new StationEntity("B")).getId();
+        final Long stationC = stationDao.insert(new StationEntity("C")).getId();
 
         final List<SectionEntity> sections = List.of(
-                new SectionEntity("A", "B", 3, line.getId()),
-                new SectionEntity("B", "C", 5, line.getId())
+                new SectionEntity(stationA, stationB, 3, line.getId()),
+                new SectionEntity(stationB, stationC, 5, line.getId())
         );
 
         // when
@@ -58,13 +59,13 @@ public class SectionDaoTest {
     void 구간을_전체_조회한다() {
         // given
         final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        stationDao.insert(new StationEntity("A", line.getId()));
-        stationDao.insert(new StationEntity("B", line.getId()));
-        stationDao.insert(new StationEntity("C", line.getId()));
+        final Long stationA = stationDao.insert(new StationEntity("A")).getId();
+        final Long stationB = stationDao.insert(new StationEntity("B")).getId();
+        final Long stationC = stationDao.insert(new StationEntity("C")).getId();
 
         final List<SectionEntity> sections = List.of(
-                new SectionEntity("A", "B", 3, line.getId()),
-                new SectionEntity("B", "C", 5, line.getId())
+                new SectionEntity(stationA, stationB, 3, line.getId()),
+                new SectionEntity(stationB, stationC, 5, line.getId())
         );
         sectionDao.insertAll(sections);
 
@@ -79,13 +80,13 @@ public class SectionDaoTest {
     void 입력받은_노선_id에_해당하는_구간을_전체_삭제한다() {
         // given
         final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        stationDao.insert(new StationEntity("A", line.getId()));
-        stationDao.insert(new StationEntity("B", line.getId()));
-        stationDao.insert(new StationEntity("C", line.getId()));
+        final Long stationA = stationDao.insert(new StationEntity("A")).getId();
+        final Long stationB = stationDao.insert(new StationEntity("B")).getId();
+        final Long stationC = stationDao.insert(new StationEntity("C")).getId();
 
         final List<SectionEntity> sections = List.of(
-                new SectionEntity("A", "B", 3, line.getId()),
-                new SectionEntity("B", "C", 5, line.getId())
+                new SectionEntity(stationA, stationB, 3, line.getId()),
+                new SectionEntity(stationB, stationC, 5, line.getId())
         );
         sectionDao.insertAll(sections);
 
@@ -100,13 +101,13 @@ public class SectionDaoTest {
     void 라인_id를_받아_구간을_조회한다() {
         // given
         final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        stationDao.insert(new StationEntity("A", line.getId()));
-        stationDao.insert(new StationEntity("B", line.getId()));
-        stationDao.insert(new StationEntity("C", line.getId()));
+        final Long stationA = stationDao.insert(new StationEntity("A")).getId();
+        final Long stationB = stationDao.insert(new StationEntity("B")).getId();
+        final Long stationC = stationDao.insert(new StationEntity("C")).getId();
 
         final List<SectionEntity> sections = List.of(
-                new SectionEntity("A", "B", 3, line.getId()),
-                new SectionEntity("B", "C", 5, line.getId())
+                new SectionEntity(stationA, stationB, 3, line.getId()),
+                new SectionEntity(stationB, stationC, 5, line.getId())
         );
         sectionDao.insertAll(sections);
 
@@ -116,4 +117,62 @@ public class SectionDaoTest {
         // then
         assertThat(result).usingRecursiveComparison().ignoringFields("id").isEqualTo(sections);
     }
+
+    @Test
+    void 구간을_모두_수정한다() {
+        // given
+        final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
+        final Long stationA = stationDao.insert(new StationEntity("A")).getId();
+        final Long stationB = stationDao.insert(new StationEntity("B")).getId();
+        final Long stationC = stationDao.insert(new StationEntity("C")).getId();
+        sectionDao.insertAll(List.of(new SectionEntity(stationA, stationB, 3, line.getId())));
+        final SectionEntity savedSection = sectionDao.findByLineId(line.getId()).get(0);
+        final SectionEntity newSection = new SectionEntity(savedSection.getId(), stationA, stationC, 5, line.getId());
+
+        // when
+        sectionDao.updateAll(List.of(newSection));
+
+        // then
+        assertThat(sectionDao.findAll()).containsExactly(newSection);
+    }
+
+    @Test
+    void id_목록을_입력받아_구간을_삭제한다() {
+        // given
+        final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
+        final Long stationA = stationDao.insert(new StationEntity("A")).getId();
+        final Long stationB = stationDao.insert(new StationEntity("B")).getId();
+        final Long stationC = stationDao.insert(new StationEntity("C")).getId();
+        sectionDao.insertAll(List.of(
+                new SectionEntity(stationA, stationB, 3, line.getId()),
+                new SectionEntity(stationB, stationC, 5, line.getId())
+        ));
+        final List<SectionEntity> savedSections = sectionDao.findByLineId(line.getId());
+
+        // when
+        sectionDao.deleteAllById(List.of(savedSections.get(0).getId()));
+
+        // then
+        assertThat(sectionDao.findAll()).containsExactly(savedSections.get(1));
+    }
+
+    @Test
+    void 다른_노선에_두_역을_잇는_구간이_있는지_확인한다() {
+        // given
+        final LineEntity line1 = lineDao.insert(new LineEntity("1호선", "RED"));
+        final LineEntity line2 = lineDao.insert(new LineEntity("2호선", "BLUE"));
+        final Long stationA = stationDao.insert(new StationEntity("A")).getId();
+        final Long stationB = stationDao.insert(new StationEntity("B")).getId();
+        sectionDao.insertAll(List.of(new SectionEntity(stationA, stationB, 3, line1.getId())));
+
+        // expect
+        assertAll(
+                () -> assertThat(sectionDao.existsByStationIdsExcludingLine(stationA, stationB, line2.getName()))
+                        .isTrue(),
+                () -> assertThat(sectionDao.existsByStationIdsExcludingLine(stationA, stationB, line1.getName()))
+                        .isFalse(),
+                () -> assertThat(sectionDao.existsByStationIdsExcludingLine(stationB, stationA, line2.getName()))
+                        .isFalse()
+        );
+    }
 }
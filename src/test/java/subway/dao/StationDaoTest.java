@@ -1,6 +1,7 @@
 package subway.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,8 +11,8 @@ import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
-import subway.entity.LineEntity;
 import subway.entity.StationEntity;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -22,20 +23,17 @@ class StationDaoTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private LineDao lineDao;
     private StationDao stationDao;
 
     @BeforeEach
     void setUp() {
-        lineDao = new LineDao(jdbcTemplate);
         stationDao = new StationDao(jdbcTemplate);
     }
 
     @Test
     void 역을_추가한다() {
         // given
-        final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        final StationEntity station = new StationEntity("A", line.getId());
+        final StationEntity station = new StationEntity("A");
 
         // when
         final StationEntity savedStation = stationDao.insert(station);
@@ -44,12 +42,21 @@ class StationDaoTest {
         assertThat(stationDao.findById(savedStation.getId()).get()).isEqualTo(savedStation);
     }
 
+    @Test
+    void 이미_존재하는_이름의_역을_추가하면_예외를_던진다() {
+        // given
+        stationDao.insert(new StationEntity("A"));
+
+        // expect
+        assertThatThrownBy(() -> stationDao.insert(new StationEntity("A")))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
     @Test
     void 역을_수정한다() {
         // given
-        final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        final StationEntity savedStation = stationDao.insert(new StationEntity("A", line.getId()));
-        final StationEntity newStation = new StationEntity(savedStation.getId(), "B", line.getId());
+        final StationEntity savedStation = stationDao.insert(new StationEntity("A"));
+        final StationEntity newStation = new StationEntity(savedStation.getId(), "B");
 
         // when
         stationDao.update(newStation);
@@ -61,8 +68,7 @@ class StationDaoTest {
     @Test
     void 역을_삭제한다() {
         // given
-        final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        final StationEntity savedStation = stationDao.insert(new StationEntity("A", line.getId()));
+        final StationEntity savedStation = stationDao.insert(new StationEntity("A"));
 
         // when
         stationDao.deleteById(savedStation.getId());
@@ -74,9 +80,8 @@ class StationDaoTest {
     @Test
     void 역을_전체_조회한다() {
         // given
-        final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        final StationEntity savedStation1 = stationDao.insert(new StationEntity("A", line.getId()));
-        final StationEntity savedStation2 = stationDao.insert(new StationEntity("B", line.getId()));
+        final StationEntity savedStation1 = stationDao.insert(new StationEntity("A"));
+        final StationEntity savedStation2 = stationDao.insert(new StationEntity("B"));
 
         // when
         final List<StationEntity> result = stationDao.findAll();
@@ -88,8 +93,7 @@ class StationDaoTest {
     @Test
     void 역을_id로_조회한다() {
         // given
-        final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        final StationEntity savedStation = stationDao.insert(new StationEntity("A", line.getId()));
+        final StationEntity savedStation = stationDao.insert(new StationEntity("A"));
 
         // when
         Optional<StationEntity> result = stationDao.findById(savedStation.getId());
@@ -99,31 +103,44 @@ class StationDaoTest {
     }
 
     @Test
-    void 노선id를_입력받아_역을_전체_삭제한다() {
+    void 역을_모두_추가한다() {
         // given
-        final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        stationDao.insert(new StationEntity("A", line.getId()));
+        final List<StationEntity> stations = List.of(
+                new StationEntity("A"),
+                new StationEntity("B")
+        );
 
         // when
-        stationDao.deleteByLineId(line.getId());
+        stationDao.insertAll(stations);
 
         // then
-        assertThat(stationDao.findAll()).hasSize(0);
+        assertThat(stationDao.findAll()).hasSize(2);
     }
 
     @Test
-    void 역을_모두_추가한다() {
+    void 이름_목록을_입력받아_역을_조회한다() {
         // given
-        final LineEntity line = lineDao.insert(new LineEntity("1호선", "RED"));
-        final List<StationEntity> stations = List.of(
-                new StationEntity("A", line.getId()),
-                new StationEntity("B", line.getId())
-        );
+        final StationEntity savedStation1 = stationDao.insert(new StationEntity("A"));
+        final StationEntity savedStation2 = stationDao.insert(new StationEntity("B"));
+        stationDao.insert(new StationEntity("C"));
 
         // when
-        stationDao.insertAll(stations);
+        final List<StationEntity> result = stationDao.findAllByName(List.of("A", "B", "D"));
 
         // then
-        assertThat(stationDao.findAll()).hasSize(2);
+        assertThat(result).containsExactlyInAnyOrder(savedStation1, savedStation2);
+    }
+
+    @Test
+    void id_목록을_입력받아_역을_조회한다() {
+        // given
+        final StationEntity savedStation1 = stationDao.insert(new StationEntity("A"));
+        stationDao.insert(new StationEntity("B"));
+
+        // when
+        final List<StationEntity> result = stationDao.findAllById(List.of(savedStation1.getId()));
+
+        // then
+        assertThat(result).containsExactly(savedStation1);
     }
 }
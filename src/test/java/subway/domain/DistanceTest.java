@@ -2,6 +2,7 @@ package subway.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -69,4 +70,26 @@ class DistanceTest {
         // then
         assertThat(result).isEqualTo(new Distance(7));
     }
+
+    @Test
+    void 자주_쓰이는_거리는_같은_객체를_재사용한다() {
+        // given
+        final Distance distance = Distance.valueOf(5);
+
+        // expect
+        assertAll(
+                () -> assertThat(Distance.valueOf(5)).isSameAs(distance),
+                () -> assertThat(distance.add(Distance.valueOf(2))).isSameAs(Distance.valueOf(7)),
+                () -> assertThat(Distance.valueOf(100_000)).isEqualTo(new Distance(100_000))
+        );
+    }
+
+    @ParameterizedTest(name = "양수가 아닌 값으로 거리를 조회하는 경우 예외가 발생한다. 입력: {0}")
+    @ValueSource(ints = {0, -1})
+    void 양수가_아닌_값으로_거리를_조회하는_경우_예외가_발생한다(final int value) {
+        // expect
+        assertThatThrownBy(() -> Distance.valueOf(value))
+                .isInstanceOf(DistanceNotValidException.class)
+                .hasMessage("거리 값은 양수여야 합니다.");
+    }
 }
@@ -2,6 +2,7 @@ package subway.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static subway.domain.Direction.LEFT;
 import static subway.domain.Direction.RIGHT;
 
@@ -281,6 +282,31 @@ class LineTest {
         );
     }
 
+    @Test
+    void 역을_추가하거나_제거하면_정렬된_역_목록이_갱신된다() {
+        // given
+        final Line line = new Line("2호선", "RED", List.of(
+                new Section("A", "B", 5),
+                new Section("B", "C", 5)
+        ));
+        final List<Station> before = line.findAllStation();
+
+        // when
+        line.add(new Station("A"), new Station("D"), new Distance(3), RIGHT);
+        line.add(new Station("A"), new Station("E"), new Distance(3), LEFT);
+        line.remove(new Station("B"));
+
+        // then
+        assertAll(
+                () -> assertThat(line.findAllStation()).containsExactly(
+                        new Station("E"), new Station("A"), new Station("D"), new Station("C")
+                ),
+                () -> assertThat(before).containsExactly(new Station("A"), new Station("B"), new Station("C")),
+                () -> assertThatThrownBy(() -> line.findAllStation().add(new Station("F")))
+                        .isInstanceOf(UnsupportedOperationException.class)
+        );
+    }
+
     @Test
     void 노선에_비어있는_경우_빈_리스트를_반환한다() {
         // given
@@ -332,5 +358,40 @@ class LineTest {
         // then
         assertThat(hasStation).isEqualTo(result);
     }
-}
 
+    @Test
+    void 이어진_구간으로_노선을_만든다() {
+        // when
+        final Line line = Line.connected("2호선", "RED", List.of(
+                new Section("B", "C", 3),
+                new Section("A", "B", 2)
+        ));
+
+        // then
+        assertThat(line.findAllStation()).containsExactly(new Station("A"), new Station("B"), new Station("C"));
+    }
+
+    @Test
+    void 구간이_하나로_이어져_있지_않으면_노선을_만들_수_없다() {
+        // given
+        final List<Section> disconnected = List.of(
+                new Section("A", "B", 2),
+                new Section("C", "D", 3)
+        );
+        final List<Section> cyclic = List.of(
+                new Section("A", "B", 2),
+                new Section("B", "C", 3),
+                new Section("C", "B", 4)
+        );
+
+        // expect
+        assertAll(
+                () -> assertThatThrownBy(() -> Line.connected("2호선", "RED", disconnected))
+                        .isInstanceOf(InvalidSectionException.class)
+                        .hasMessage("노선의 구간이 하나로 이어져 있지 않습니다."),
+                () -> assertThatThrownBy(() -> Line.connected("2호선", "RED", cyclic))
+                        .isInstanceOf(InvalidSectionException.class)
+                        .hasMessage("노선의 구간이 하나로 이어져 있지 않습니다.")
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class SectionChangesTest {
+
+    @Test
+    void 추가한_구간과_제거한_구간을_구분해서_반환한다() {
+        // given
+        final SectionChanges changes = new SectionChanges();
+
+        // when
+        changes.add(new Section("A", "D", 3));
+        changes.remove(new Section("A", "B", 5));
+
+        // then
+        assertAll(
+                () -> assertThat(changes.getAddedSections()).containsExactly(new Section("A", "D", 3)),
+                () -> assertThat(changes.getRemovedSections()).containsExactly(new Section("A", "B", 5))
+        );
+    }
+
+    @Test
+    void 추가한_뒤_제거한_구간은_변경에서_제외된다() {
+        // given
+        final SectionChanges changes = new SectionChanges();
+
+        // when
+        changes.add(new Section("A", "B", 5));
+        changes.remove(new Section("A", "B", 5));
+
+        // then
+        assertThat(changes.isEmpty()).isTrue();
+    }
+
+    @Test
+    void 다른_변경을_합친다() {
+        // given
+        final SectionChanges changes = new SectionChanges();
+        changes.add(new Section("A", "B", 5));
+        final SectionChanges other = new SectionChanges();
+        other.remove(new Section("A", "B", 5));
+        other.add(new Section("B", "C", 3));
+
+        // when
+        changes.addAll(other);
+
+        // then
+        assertAll(
+                () -> assertThat(changes.getAddedSections()).containsExactly(new Section("B", "C", 3)),
+                () -> assertThat(changes.getRemovedSections()).isEmpty()
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class SectionsTest {
+
+    @Test
+    void 역을_기준으로_상행_구간과_하행_구간을_찾는다() {
+        // given
+        final Sections sections = new Sections(List.of(
+                new Section("B", "C", 3),
+                new Section("A", "B", 2)
+        ));
+
+        // expect
+        assertAll(
+                () -> assertThat(sections.findByStart(new Station("B"))).contains(new Section("B", "C", 3)),
+                () -> assertThat(sections.findByEnd(new Station("B"))).contains(new Section("A", "B", 2)),
+                () -> assertThat(sections.findByEnd(new Station("A"))).isEmpty(),
+                () -> assertThat(sections.findByStart(new Station("C"))).isEmpty()
+        );
+    }
+
+    @Test
+    void 구간을_제거하면_양쪽_색인에서_모두_제거된다() {
+        // given
+        final Sections sections = new Sections(List.of(
+                new Section("A", "B", 2),
+                new Section("B", "C", 3)
+        ));
+
+        // when
+        sections.remove(new Section("B", "C", 3));
+
+        // then
+        assertAll(
+                () -> assertThat(sections.contains(new Station("C"))).isFalse(),
+                () -> assertThat(sections.findByStart(new Station("B"))).isEmpty(),
+                () -> assertThat(sections.findAllStation()).containsExactly(new Station("A"), new Station("B"))
+        );
+    }
+
+    @Test
+    void 상행_종점부터_하행_종점까지_역을_정렬한다() {
+        // given
+        final Sections sections = new Sections(List.of(
+                new Section("C", "D", 4),
+                new Section("A", "B", 2),
+                new Section("B", "C", 3)
+        ));
+
+        // when
+        final List<Station> stations = sections.findAllStation();
+
+        // then
+        assertThat(stations).containsExactly(
+                new Station("A"), new Station("B"), new Station("C"), new Station("D")
+        );
+    }
+
+    @Test
+    void 상행_종점부터_하행_종점까지_구간을_정렬한다() {
+        // given
+        final Sections sections = new Sections(List.of(
+                new Section("C", "D", 4),
+                new Section("A", "B", 2),
+                new Section("B", "C", 3)
+        ));
+
+        // when
+        final List<Section> result = sections.toList();
+
+        // then
+        assertThat(result).containsExactly(
+                new Section("A", "B", 2),
+                new Section("B", "C", 3),
+                new Section("C", "D", 4)
+        );
+    }
+}
@@ -1,9 +1,11 @@
 package subway.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -20,4 +22,14 @@ class StationTest {
         // expect
         assertThat(station.isSame(name)).isEqualTo(result);
     }
+
+    @Test
+    void 이름이_같으면_id와_관계없이_같은_역이다() {
+        // expect
+        assertAll(
+                () -> assertThat(new Station(1L, "A")).isEqualTo(new Station("A")),
+                () -> assertThat(new Station(1L, "A")).hasSameHashCodeAs(new Station("A")),
+                () -> assertThat(new Station(1L, "A")).isNotEqualTo(new Station(1L, "B"))
+        );
+    }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static subway.domain.Direction.LEFT;
+import static subway.domain.Direction.RIGHT;
 import static subway.fixture.SubwayFixtures.SUBWAY1;
 
 import java.util.Collections;
@@ -11,6 +12,7 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
+import subway.exception.DuplicateLineNameException;
 import subway.exception.InvalidSectionException;
 import subway.exception.LineNotEmptyException;
 import subway.exception.LineNotFoundException;
@@ -159,4 +161,128 @@ class SubwayTest {
                 ))
         );
     }
+
+    @Test
+    void 구간을_제거하면_같은_역_사이의_구간을_다시_추가할_수_있다() {
+        // given
+        final Subway subway = new Subway(List.of(
+                new Line("1호선", "RED", List.of(
+                        new Section("A", "B", 5),
+                        new Section("B", "C", 5)
+                )),
+                new Line("2호선", "BLUE", List.of(
+                        new Section("Z", "C", 5)
+                ))
+        ));
+        subway.remove("1호선", "C");
+
+        // when
+        subway.add("2호선", "C", "B", 3, LEFT);
+
+        // then
+        assertThat(subway.findLineByLineName("2호선").getSections()).containsExactlyInAnyOrder(
+                new Section("Z", "B", 2),
+                new Section("B", "C", 3)
+        );
+    }
+
+    @Test
+    void 역을_포함하는_노선을_찾는다() {
+        // given
+        final Subway subway = new Subway(List.of(
+                new Line("1호선", "RED", List.of(
+                        new Section("A", "B", 5),
+                        new Section("B", "C", 5)
+                )),
+                new Line("2호선", "BLUE", List.of(
+                        new Section("Z", "B", 5)
+                ))
+        ));
+
+        // when
+        subway.remove("2호선", "B");
+
+        // then
+        assertAll(
+                () -> assertThat(subway.findLinesByStation(new Station("B")))
+                        .extracting(Line::getName)
+                        .containsExactly("1호선"),
+                () -> assertThat(subway.containsStation(new Station("Z"))).isFalse(),
+                () -> assertThat(subway.findLinesByStation(new Station("Z"))).isEmpty()
+        );
+    }
+
+    @Test
+    void 노선을_추가하면_색인에_반영된다() {
+        // given
+        final Subway subway = new Subway(List.of(new Line("1호선", "RED", List.of(
+                new Section("A", "B", 5)
+        ))));
+
+        // when
+        subway.addLine(new Line("2호선", "BLUE", List.of(new Section("B", "C", 3))));
+
+        // then
+        assertAll(
+                () -> assertThat(subway.findLineByLineName("2호선").getSections())
+                        .containsExactly(new Section("B", "C", 3)),
+                () -> assertThat(subway.findLinesByStation(new Station("B")))
+                        .extracting(Line::getName)
+                        .containsExactly("1호선", "2호선"),
+                () -> assertThatThrownBy(() -> subway.add("1호선", "B", "C", 2, RIGHT))
+                        .isInstanceOf(InvalidSectionException.class)
+                        .hasMessage("지하철 전체 노선에 이미 존재하는 구간입니다.")
+        );
+    }
+
+    @Test
+    void 이미_존재하는_노선이나_구간을_가진_노선은_추가할_수_없다() {
+        // given
+        final Subway subway = new Subway(List.of(new Line("1호선", "RED", List.of(
+                new Section("A", "B", 5)
+        ))));
+
+        // expect
+        assertAll(
+                () -> assertThatThrownBy(() -> subway.addLine(new Line("1호선", "BLUE", Collections.emptyList())))
+                        .isInstanceOf(DuplicateLineNameException.class),
+                () -> assertThatThrownBy(() -> subway.addLine(new Line("2호선", "BLUE", List.of(
+                        new Section("B", "A", 3)
+                )))).isInstanceOf(InvalidSectionException.class)
+        );
+    }
+
+    @Test
+    void 불러오지_않은_노선에_이미_존재하는_구간은_추가할_수_없다() {
+        // given
+        final Subway subway = new Subway(
+                List.of(new Line("1호선", "RED", List.of(new Section("A", "B", 5)))),
+                (start, end) -> start.equals(new Station("B")) && end.equals(new Station("C"))
+        );
+
+        // expect
+        assertThatThrownBy(() -> subway.add("1호선", "B", "C", 3, RIGHT))
+                .isInstanceOf(InvalidSectionException.class)
+                .hasMessage("지하철 전체 노선에 이미 존재하는 구간입니다.");
+    }
+
+    @Test
+    void 노선에_있는_역은_저장된_역을_그대로_사용한다() {
+        // given
+        final Station stationA = new Station(1L, "A");
+        final Station stationB = new Station(2L, "B");
+        final Line line = new Line("1호선", "RED", List.of(new Section(stationA, stationB, new Distance(5))));
+        final Subway subway = new Subway(List.of(line));
+
+        // when
+        subway.add("1호선", "B", "C", 3, RIGHT);
+
+        // then
+        final List<Station> stations = line.findAllStation();
+        assertAll(
+                () -> assertThat(stations.get(0)).isSameAs(stationA),
+                () -> assertThat(stations.get(1)).isSameAs(stationB),
+                () -> assertThat(stations.get(2).getId()).isNull()
+        );
+    }
 }
@@ -0,0 +1,173 @@
+package subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static subway.fixture.SubwayFixtures.SUBWAY2;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.SectionChanges;
+import subway.domain.Subway;
+import subway.domain.fare.DistanceFarePolicy;
+import subway.domain.fare.FarePolicy;
+import subway.exception.PathNotFoundException;
+import subway.exception.StationNotFoundException;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class AllPairsPathFinderTest {
+
+    private final FarePolicy farePolicy = new DistanceFarePolicy();
+
+    @CsvSource({"A, D", "D, A", "A, E", "C, E", "E, D"})
+    @ParameterizedTest(name = "{0}에서 {1}까지의 최단 경로가 JGraphT 구현과 같다")
+    void JGraphT_구현과_같은_최단_경로를_반환한다(final String start, final String end) {
+        // given
+        final PathFinder allPairsPathFinder = new AllPairsPathFinder(SUBWAY2);
+        final PathFinder jgraphtPathFinder = new JgraphtPathFinder(SUBWAY2);
+
+        // when
+        final Path result = allPairsPathFinder.find(start, end);
+
+        // then
+        final Path expected = jgraphtPathFinder.find(start, end);
+        assertAll(
+                () -> assertThat(result.getAllStationName()).isEqualTo(expected.getAllStationName()),
+                () -> assertThat(result.getDistance()).isEqualTo(expected.getDistance())
+        );
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest(name = "힙 밖 저장 여부: {0}")
+    void 미리_계산한_요금을_반환한다(final boolean offHeap) {
+        // given
+        final PathFinder pathFinder = new AllPairsPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(
+                        new Section("A", "B", 30),
+                        new Section("B", "C", 40)
+                ))
+        )), new PathFinderOptions(AllPairsPathFinder.estimateMemoryBytes(10), offHeap, farePolicy));
+
+        // when
+        final Path result = pathFinder.find("A", "C");
+
+        // then
+        assertAll(
+                () -> assertThat(result.getDistance()).isEqualTo(70),
+                () -> assertThat(result.calculateFare(distance -> 0)).isEqualTo(farePolicy.calculate(70))
+        );
+    }
+
+    @Test
+    void 예상_저장_공간이_한도를_넘으면_미리_계산하지_않고_경로를_조회한다() {
+        // given
+        final PathFinderOptions options = new PathFinderOptions(
+                AllPairsPathFinder.estimateMemoryBytes(3),
+                false,
+                farePolicy
+        );
+        final AllPairsPathFinder pathFinder = new AllPairsPathFinder(SUBWAY2, options);
+
+        // when
+        final Path result = pathFinder.find("A", "D");
+
+        // then
+        assertAll(
+                () -> assertThat(pathFinder.isPrecomputed()).isFalse(),
+                () -> assertThat(result.getAllStationName()).containsExactly("A", "B", "D"),
+                () -> assertThat(result.calculateFare(farePolicy)).isEqualTo(1250)
+        );
+    }
+
+    @Test
+    void 저장_공간을_추정한다() {
+        // expect
+        assertThat(AllPairsPathFinder.estimateMemoryBytes(1000)).isEqualTo(12_000_000L);
+    }
+
+    @Test
+    void 구간_변경을_반영해_다시_계산한다() {
+        // given
+        final AllPairsPathFinder pathFinder = new AllPairsPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(
+                        new Section("A", "B", 5),
+                        new Section("B", "C", 5)
+                ))
+        )));
+        final SectionChanges changes = new SectionChanges();
+        changes.remove(new Section("A", "B", 5));
+        changes.remove(new Section("B", "C", 5));
+        changes.add(new Section("A", "C", 10));
+
+        // when
+        pathFinder.apply(changes);
+
+        // then
+        assertAll(
+                () -> assertThat(pathFinder.find("A", "C").getAllStationName()).containsExactly("A", "C"),
+                () -> assertThatThrownBy(() -> pathFinder.find("A", "B"))
+                        .isInstanceOf(StationNotFoundException.class)
+        );
+    }
+
+    @Test
+    void 새_표를_다_계산하기_전까지는_기존_표로_조회하고_교체한_뒤에_게시를_알린다() {
+        // given
+        final List<Runnable> pendingTasks = new ArrayList<>();
+        final PathFinderOptions options = new PathFinderOptions(
+                PathFinderOptions.DEFAULT.getAllPairsMaximumMemoryBytes(),
+                false,
+                farePolicy,
+                PathFinderMetrics.NONE,
+                pendingTasks::add
+        );
+        final AllPairsPathFinder pathFinder = new AllPairsPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(
+                        new Section("A", "B", 5),
+                        new Section("B", "C", 5)
+                ))
+        )), options);
+        final List<List<String>> publishedPaths = new ArrayList<>();
+        final SectionChanges changes = SectionChanges.removed(List.of(
+                new Section("A", "B", 5),
+                new Section("B", "C", 5)
+        ));
+        changes.add(new Section("A", "C", 3));
+
+        // when
+        pathFinder.apply(changes, () -> publishedPaths.add(pathFinder.find("A", "C").getAllStationName()));
+        final Path beforePreprocessing = pathFinder.find("A", "C");
+        pendingTasks.forEach(Runnable::run);
+        pathFinder.awaitPreprocessing();
+
+        // then
+        assertAll(
+                () -> assertThat(beforePreprocessing.getAllStationName()).containsExactly("A", "B", "C"),
+                () -> assertThat(publishedPaths).containsExactly(List.of("A", "C")),
+                () -> assertThat(pathFinder.find("A", "C").getDistance()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void 연결되지_않은_역_사이의_경로를_조회하면_예외를_던진다() {
+        // given
+        final PathFinder pathFinder = new AllPairsPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(new Section("A", "B", 2))),
+                new Line("2호선", "BLUE", List.of(new Section("C", "D", 2)))
+        )));
+
+        // expect
+        assertThatThrownBy(() -> pathFinder.find("A", "D"))
+                .isInstanceOf(PathNotFoundException.class)
+                .hasMessage("경로를 찾을 수 없습니다.");
+    }
+}
@@ -0,0 +1,135 @@
+package subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static subway.fixture.SubwayFixtures.SUBWAY2;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.SectionChanges;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.exception.PathNotFoundException;
+import subway.exception.StationNotFoundException;
+import subway.fixture.SubwayNetworkGenerator;
+import subway.fixture.SubwayNetworkGenerator.DistanceDistribution;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class BidirectionalPathFinderTest {
+
+    @Test
+    void 입력받은_출발역과_도착역의_최단경로를_조회한다() {
+        // given
+        PathFinder pathFinder = new BidirectionalPathFinder(SUBWAY2);
+
+        // when
+        final Path shortestPath = pathFinder.find("A", "D");
+
+        // then
+        assertAll(
+                () -> assertThat(shortestPath.getPath()).containsExactly(
+                        new Station("A"), new Station("B"), new Station("D")),
+                () -> assertThat(shortestPath.getDistance()).isEqualTo(4)
+        );
+    }
+
+    @CsvSource({"A, D", "D, A", "A, E", "C, E", "E, D"})
+    @ParameterizedTest(name = "{0}에서 {1}까지의 최단 경로가 JGraphT 구현과 같다")
+    void JGraphT_구현과_같은_최단_경로를_반환한다(final String start, final String end) {
+        // given
+        final PathFinder bidirectionalPathFinder = new BidirectionalPathFinder(SUBWAY2);
+        final PathFinder jgraphtPathFinder = new JgraphtPathFinder(SUBWAY2);
+
+        // when
+        final Path result = bidirectionalPathFinder.find(start, end);
+
+        // then
+        final Path expected = jgraphtPathFinder.find(start, end);
+        assertAll(
+                () -> assertThat(result.getAllStationName()).isEqualTo(expected.getAllStationName()),
+                () -> assertThat(result.getDistance()).isEqualTo(expected.getDistance())
+        );
+    }
+
+    @Test
+    void 생성한_노선도에서_단방향_탐색과_같은_최단_거리를_반환한다() {
+        // given
+        final Subway subway = new SubwayNetworkGenerator(1L, 20, 50, 0.2, DistanceDistribution.uniform(1, 10))
+                .generate();
+        final PathFinder bidirectionalPathFinder = new BidirectionalPathFinder(subway);
+        final PathFinder csrPathFinder = new CsrPathFinder(subway);
+        final List<Station> stations = subway.getLines().stream()
+                .flatMap(line -> line.findAllStation().stream())
+                .distinct()
+                .collect(Collectors.toList());
+
+        // expect
+        for (int index = 1; index < stations.size(); index += 7) {
+            final String start = stations.get(index - 1).getName();
+            final String end = stations.get(stations.size() - index).getName();
+            if (!start.equals(end)) {
+                assertThat(bidirectionalPathFinder.find(start, end).getDistance())
+                        .isEqualTo(csrPathFinder.find(start, end).getDistance());
+            }
+        }
+    }
+
+    @Test
+    void 입력받은_역이_존재하지_않으면_예외를_던진다() {
+        // given
+        PathFinder pathFinder = new BidirectionalPathFinder(SUBWAY2);
+
+        // expect
+        assertThatThrownBy(() -> pathFinder.find("Q", "B"))
+                .isInstanceOf(StationNotFoundException.class)
+                .hasMessageContaining("역을 찾을 수 없습니다.");
+    }
+
+    @Test
+    void 연결되지_않은_역_사이의_경로를_조회하면_예외를_던진다() {
+        // given
+        PathFinder pathFinder = new BidirectionalPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(new Section("A", "B", 2))),
+                new Line("2호선", "BLUE", List.of(new Section("C", "D", 2)))
+        )));
+
+        // expect
+        assertThatThrownBy(() -> pathFinder.find("A", "D"))
+                .isInstanceOf(PathNotFoundException.class)
+                .hasMessage("경로를 찾을 수 없습니다.");
+    }
+
+    @Test
+    void 구간_변경을_그래프에_반영한다() {
+        // given
+        final BidirectionalPathFinder pathFinder = new BidirectionalPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(
+                        new Section("A", "B", 5),
+                        new Section("B", "C", 5)
+                ))
+        )));
+        final SectionChanges changes = new SectionChanges();
+        changes.remove(new Section("A", "B", 5));
+        changes.remove(new Section("B", "C", 5));
+        changes.add(new Section("A", "C", 10));
+
+        // when
+        pathFinder.apply(changes);
+
+        // then
+        assertAll(
+                () -> assertThat(pathFinder.find("A", "C").getAllStationName()).containsExactly("A", "C"),
+                () -> assertThatThrownBy(() -> pathFinder.find("A", "B"))
+                        .isInstanceOf(StationNotFoundException.class)
+        );
+    }
+}
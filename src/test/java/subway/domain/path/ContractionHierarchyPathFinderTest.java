@@ -0,0 +1,153 @@
+package subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static subway.fixture.SubwayFixtures.SUBWAY2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.SectionChanges;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.exception.PathNotFoundException;
+import subway.exception.StationNotFoundException;
+import subway.fixture.SubwayNetworkGenerator;
+import subway.fixture.SubwayNetworkGenerator.DistanceDistribution;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ContractionHierarchyPathFinderTest {
+
+    @CsvSource({"A, D", "D, A", "A, E", "C, E", "E, D"})
+    @ParameterizedTest(name = "{0}에서 {1}까지의 최단 경로가 JGraphT 구현과 같다")
+    void JGraphT_구현과_같은_최단_경로를_반환한다(final String start, final String end) {
+        // given
+        final PathFinder contractionHierarchyPathFinder = new ContractionHierarchyPathFinder(SUBWAY2);
+        final PathFinder jgraphtPathFinder = new JgraphtPathFinder(SUBWAY2);
+
+        // when
+        final Path result = contractionHierarchyPathFinder.find(start, end);
+
+        // then
+        final Path expected = jgraphtPathFinder.find(start, end);
+        assertAll(
+                () -> assertThat(result.getAllStationName()).isEqualTo(expected.getAllStationName()),
+                () -> assertThat(result.getDistance()).isEqualTo(expected.getDistance())
+        );
+    }
+
+    @Test
+    void 지름길을_풀어_모든_역을_순서대로_반환한다() {
+        // given
+        final Subway subway = new SubwayNetworkGenerator(1L, 20, 50, 0.2, DistanceDistribution.uniform(1, 10))
+                .generate();
+        final PathFinder contractionHierarchyPathFinder = new ContractionHierarchyPathFinder(subway);
+        final PathFinder csrPathFinder = new CsrPathFinder(subway);
+        final List<Station> stations = subway.getLines().stream()
+                .flatMap(line -> line.findAllStation().stream())
+                .distinct()
+                .collect(Collectors.toList());
+
+        // expect
+        for (int index = 1; index < stations.size(); index += 7) {
+            final String start = stations.get(index - 1).getName();
+            final String end = stations.get(stations.size() - index).getName();
+            if (!start.equals(end)) {
+                final Path result = contractionHierarchyPathFinder.find(start, end);
+                assertAll(
+                        () -> assertThat(result.getDistance()).isEqualTo(csrPathFinder.find(start, end).getDistance()),
+                        () -> assertThat(result.getAllStationName()).startsWith(start).endsWith(end).doesNotHaveDuplicates()
+                );
+            }
+        }
+    }
+
+    @Test
+    void 입력받은_역이_존재하지_않으면_예외를_던진다() {
+        // given
+        final PathFinder pathFinder = new ContractionHierarchyPathFinder(SUBWAY2);
+
+        // expect
+        assertThatThrownBy(() -> pathFinder.find("Q", "B"))
+                .isInstanceOf(StationNotFoundException.class)
+                .hasMessageContaining("역을 찾을 수 없습니다.");
+    }
+
+    @Test
+    void 연결되지_않은_역_사이의_경로를_조회하면_예외를_던진다() {
+        // given
+        final PathFinder pathFinder = new ContractionHierarchyPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(new Section("A", "B", 2))),
+                new Line("2호선", "BLUE", List.of(new Section("C", "D", 2)))
+        )));
+
+        // expect
+        assertThatThrownBy(() -> pathFinder.find("A", "D"))
+                .isInstanceOf(PathNotFoundException.class)
+                .hasMessage("경로를 찾을 수 없습니다.");
+    }
+
+    @Test
+    void 전처리가_끝나기_전까지는_기존_계층으로_경로를_조회한다() {
+        // given
+        final List<Runnable> pendingTasks = new ArrayList<>();
+        final ContractionHierarchyPathFinder pathFinder = new ContractionHierarchyPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(
+                        new Section("A", "B", 5),
+                        new Section("B", "C", 5)
+                ))
+        )), pendingTasks::add);
+        final SectionChanges changes = new SectionChanges();
+        changes.remove(new Section("A", "B", 5));
+        changes.remove(new Section("B", "C", 5));
+        changes.add(new Section("A", "C", 3));
+
+        // when
+        pathFinder.apply(changes);
+        final Path beforePreprocessing = pathFinder.find("A", "C");
+        pendingTasks.forEach(Runnable::run);
+        pathFinder.awaitPreprocessing();
+
+        // then
+        assertAll(
+                () -> assertThat(beforePreprocessing.getAllStationName()).containsExactly("A", "B", "C"),
+                () -> assertThat(pathFinder.find("A", "C").getAllStationName()).containsExactly("A", "C"),
+                () -> assertThat(pathFinder.find("A", "C").getDistance()).isEqualTo(3),
+                () -> assertThatThrownBy(() -> pathFinder.find("A", "B"))
+                        .isInstanceOf(StationNotFoundException.class)
+        );
+    }
+
+    @Test
+    void 새_계층을_게시한_뒤에만_게시를_알린다() {
+        // given
+        final List<Runnable> pendingTasks = new ArrayList<>();
+        final ContractionHierarchyPathFinder pathFinder = new ContractionHierarchyPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(new Section("A", "B", 5)))
+        )), pendingTasks::add);
+        final List<List<String>> publishedPaths = new ArrayList<>();
+        final Runnable onPublished = () -> publishedPaths.add(pathFinder.find("A", "C").getAllStationName());
+
+        // when
+        pathFinder.apply(SectionChanges.added(List.of(new Section("B", "C", 5))), onPublished);
+        pathFinder.apply(SectionChanges.added(List.of(new Section("C", "D", 5))), onPublished);
+        final List<List<String>> beforePreprocessing = new ArrayList<>(publishedPaths);
+        pendingTasks.forEach(Runnable::run);
+        pathFinder.awaitPreprocessing();
+
+        // then
+        assertAll(
+                () -> assertThat(beforePreprocessing).isEmpty(),
+                () -> assertThat(publishedPaths).containsExactly(List.of("A", "B", "C"))
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static subway.fixture.SubwayFixtures.SUBWAY2;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.SectionChanges;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.exception.PathNotFoundException;
+import subway.exception.StationNotFoundException;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class CsrPathFinderTest {
+
+    @Test
+    void 입력받은_출발역과_도착역의_최단경로를_조회한다() {
+        // given
+        PathFinder pathFinder = new CsrPathFinder(SUBWAY2);
+
+        // when
+        final Path shortestPath = pathFinder.find("A", "D");
+
+        // then
+        assertAll(
+                () -> assertThat(shortestPath.getPath()).containsExactly(
+                        new Station("A"), new Station("B"), new Station("D")),
+                () -> assertThat(shortestPath.getDistance()).isEqualTo(4)
+        );
+    }
+
+    @CsvSource({"A, D", "D, A", "A, E", "C, E", "E, D"})
+    @ParameterizedTest(name = "{0}에서 {1}까지의 최단 거리가 JGraphT 구현과 같다")
+    void JGraphT_구현과_같은_최단_거리를_반환한다(final String start, final String end) {
+        // given
+        final PathFinder csrPathFinder = new CsrPathFinder(SUBWAY2);
+        final PathFinder jgraphtPathFinder = new JgraphtPathFinder(SUBWAY2);
+
+        // expect
+        assertThat(csrPathFinder.find(start, end).getDistance())
+                .isEqualTo(jgraphtPathFinder.find(start, end).getDistance());
+    }
+
+    @Test
+    void 입력받은_역이_존재하지_않으면_예외를_던진다() {
+        // given
+        PathFinder pathFinder = new CsrPathFinder(SUBWAY2);
+
+        // expect
+        assertThatThrownBy(() -> pathFinder.find("Q", "B"))
+                .isInstanceOf(StationNotFoundException.class)
+                .hasMessageContaining("역을 찾을 수 없습니다.");
+    }
+
+    @Test
+    void 연결되지_않은_역_사이의_경로를_조회하면_예외를_던진다() {
+        // given
+        PathFinder pathFinder = new CsrPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(new Section("A", "B", 2))),
+                new Line("2호선", "BLUE", List.of(new Section("C", "D", 2)))
+        )));
+
+        // expect
+        assertThatThrownBy(() -> pathFinder.find("A", "D"))
+                .isInstanceOf(PathNotFoundException.class)
+                .hasMessage("경로를 찾을 수 없습니다.");
+    }
+
+    @Test
+    void 구간_변경을_그래프에_반영한다() {
+        // given
+        final CsrPathFinder pathFinder = new CsrPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(
+                        new Section("A", "B", 5),
+                        new Section("B", "C", 5)
+                ))
+        )));
+        final SectionChanges changes = new SectionChanges();
+        changes.remove(new Section("A", "B", 5));
+        changes.remove(new Section("B", "C", 5));
+        changes.add(new Section("A", "C", 10));
+
+        // when
+        pathFinder.apply(changes);
+
+        // then
+        assertAll(
+                () -> assertThat(pathFinder.find("A", "C").getAllStationName()).containsExactly("A", "C"),
+                () -> assertThatThrownBy(() -> pathFinder.find("A", "B"))
+                        .isInstanceOf(StationNotFoundException.class)
+        );
+    }
+}
@@ -5,9 +5,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static subway.fixture.SubwayFixtures.SUBWAY2;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
+import subway.domain.Direction;
+import subway.domain.Distance;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.SectionChanges;
 import subway.domain.Station;
 import subway.domain.Subway;
 import subway.exception.StationNotFoundException;
@@ -73,4 +80,78 @@ class JgraphtPathFinderTest {
                 .isInstanceOf(StationNotFoundException.class)
                 .hasMessageContaining("역을 찾을 수 없습니다.");
     }
+
+    @Test
+    void 구간_변경을_그래프에_반영한다() {
+        // given
+        final JgraphtPathFinder pathFinder = new JgraphtPathFinder(new Subway(List.of(
+                new Line("1호선", "RED", List.of(
+                        new Section("A", "B", 5),
+                        new Section("B", "C", 5)
+                ))
+        )));
+        final SectionChanges changes = new SectionChanges();
+        changes.remove(new Section("A", "B", 5));
+        changes.remove(new Section("B", "C", 5));
+        changes.add(new Section("A", "C", 10));
+
+        // when
+        pathFinder.apply(changes);
+
+        // then
+        assertAll(
+                () -> assertThat(pathFinder.find("A", "C").getAllStationName()).containsExactly("A", "C"),
+                () -> assertThatThrownBy(() -> pathFinder.find("A", "B"))
+                        .isInstanceOf(StationNotFoundException.class)
+        );
+    }
+
+    @Test
+    void 구간_변경을_반영한_그래프는_전체를_다시_만든_그래프와_같다() {
+        // given
+        final Line line = new Line("1호선", "RED", List.of(
+                new Section("A", "B", 5),
+                new Section("B", "C", 5)
+        ));
+        final JgraphtPathFinder pathFinder = new JgraphtPathFinder(new Subway(List.of(line)));
+        final SectionChanges changes = SectionChanges.removed(line.getSections());
+        line.add(new Station("A"), new Station("D"), new Distance(3), Direction.RIGHT);
+        changes.addAll(SectionChanges.added(line.getSections()));
+
+        // when
+        pathFinder.apply(changes);
+
+        // then
+        assertThat(pathFinder.getSections()).containsExactlyInAnyOrderElementsOf(line.getSections());
+    }
+
+    @Test
+    void 그래프_구성과_최단경로_탐색을_기록한다() {
+        // given
+        final List<Long> graphBuilds = new ArrayList<>();
+        final List<int[]> searches = new ArrayList<>();
+        final PathFinderMetrics metrics = new PathFinderMetrics() {
+            @Override
+            public void recordGraphBuild(final long elapsedNanos) {
+                graphBuilds.add(elapsedNanos);
+            }
+
+            @Override
+            public void recordSearch(final long elapsedNanos, final int visitedStations, final int visitedSections) {
+                searches.add(new int[]{visitedStations, visitedSections});
+            }
+        };
+        final PathFinder pathFinder = new JgraphtPathFinder(SUBWAY2, metrics);
+
+        // when
+        pathFinder.find("A", "D");
+
+        // then
+        assertAll(
+                () -> assertThat(graphBuilds).hasSize(1),
+                () -> assertThat(searches).hasSize(1),
+                () -> assertThat(searches.get(0)[0]).isBetween(3, 4),
+                () -> assertThat(searches.get(0)[1]).isBetween(7, 8)
+        );
+    }
 }
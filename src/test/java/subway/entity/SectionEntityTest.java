@@ -3,6 +3,7 @@ package subway.entity;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -13,8 +14,10 @@ import subway.domain.Section;
 @SuppressWarnings("NonAsciiCharacters")
 class SectionEntityTest {
 
+    private static final Map<String, Long> STATION_IDS = Map.of("A", 1L, "B", 2L, "C", 3L, "D", 4L, "E", 5L);
+
     @Test
-    void 라인과_라인id를_뱓아_Section_Entity_리스트를_반환한다() {
+    void 라인과_라인id와_역id를_받아_Section_Entity_리스트를_반환한다() {
         // given
         final Line line = new Line("2호선", "RED", List.of(
                 new Section("B", "C", 3),
@@ -24,14 +27,14 @@ class SectionEntityTest {
         ));
 
         // when
-        List<SectionEntity> result = SectionEntity.of(line.getSections(), 1L);
+        List<SectionEntity> result = SectionEntity.of(line.getSections(), 1L, STATION_IDS);
 
         // then
         assertThat(result).containsAll(List.of(
-                new SectionEntity("B", "C", 3, 1L),
-                new SectionEntity("A", "B", 2, 1L),
-                new SectionEntity("D", "E", 5, 1L),
-                new SectionEntity("C", "D", 4, 1L)
+                new SectionEntity(2L, 3L, 3, 1L),
+                new SectionEntity(1L, 2L, 2, 1L),
+                new SectionEntity(4L, 5L, 5, 1L),
+                new SectionEntity(3L, 4L, 4, 1L)
         ));
     }
 }
@@ -14,7 +14,7 @@ import subway.domain.Section;
 class StationEntityTest {
 
     @Test
-    void 라인과_라인id를_받아_StationEntity_리스트를_반환한다() {
+    void 역_목록을_받아_StationEntity_리스트를_반환한다() {
         // given
         final Line line = new Line("2호선", "RED", List.of(
                 new Section("B", "C", 3),
@@ -24,7 +24,7 @@ class StationEntityTest {
         ));
 
         // when
-        List<StationEntity> result = StationEntity.of(line.findAllStation(), 1L);
+        List<StationEntity> result = StationEntity.of(line.findAllStation());
 
         // then
         assertThat(result).extracting(StationEntity::getName).containsAll(List.of("A", "B", "C", "D", "E"));
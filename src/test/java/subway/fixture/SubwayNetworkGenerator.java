@@ -0,0 +1,134 @@
+package subway.fixture;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.Subway;
+import subway.repository.LineRepository;
+
+public class SubwayNetworkGenerator {
+
+    private final long seed;
+    private final int lineCount;
+    private final int lineLength;
+    private final double transferRatio;
+    private final DistanceDistribution distanceDistribution;
+
+    public SubwayNetworkGenerator(
+            final long seed,
+            final int lineCount,
+            final int lineLength,
+            final double transferRatio,
+            final DistanceDistribution distanceDistribution
+    ) {
+        if (lineCount < 1 || lineLength < 2) {
+            throw new IllegalArgumentException("노선은 1개 이상, 노선당 역은 2개 이상이어야 합니다.");
+        }
+        if (transferRatio < 0 || transferRatio > 1) {
+            throw new IllegalArgumentException("환승역 비율은 0 이상 1 이하여야 합니다.");
+        }
+        this.seed = seed;
+        this.lineCount = lineCount;
+        this.lineLength = lineLength;
+        this.transferRatio = transferRatio;
+        this.distanceDistribution = distanceDistribution;
+    }
+
+    public Subway generate() {
+        return new Subway(generateLines());
+    }
+
+    public Subway load(final LineRepository lineRepository) {
+        final List<Line> lines = generateLines();
+        lineRepository.saveAll(lines);
+        return new Subway(lines);
+    }
+
+    public List<Line> generateLines() {
+        final Random random = new Random(seed);
+        final int transferStationCount = Math.max(1, (int) (lineCount * lineLength * transferRatio / 2));
+        final List<String> generatedStations = new ArrayList<>();
+        final Set<List<String>> connectedPairs = new HashSet<>();
+        final List<Line> lines = new ArrayList<>();
+
+        for (int lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+            final List<String> stations = new ArrayList<>();
+            final Set<String> usedStations = new HashSet<>();
+            for (int position = 0; position < lineLength; position++) {
+                String station = chooseStation(random, transferStationCount, generatedStations, lineIndex, position);
+                if (usedStations.contains(station) || isConnected(connectedPairs, stations, station)) {
+                    station = uniqueStation(lineIndex, position);
+                }
+                if (!stations.isEmpty()) {
+                    connectedPairs.add(toPair(stations.get(stations.size() - 1), station));
+                }
+                usedStations.add(station);
+                stations.add(station);
+            }
+            generatedStations.addAll(stations);
+            lines.add(new Line(lineIndex + 1 + "호선", "COLOR" + lineIndex, toSections(random, stations)));
+        }
+        return lines;
+    }
+
+    private String chooseStation(
+            final Random random,
+            final int transferStationCount,
+            final List<String> generatedStations,
+            final int lineIndex,
+            final int position
+    ) {
+        if (lineIndex > 0 && position == 0) {
+            return generatedStations.get(random.nextInt(generatedStations.size()));
+        }
+        if (random.nextDouble() < transferRatio) {
+            return "환승" + random.nextInt(transferStationCount) + "역";
+        }
+        return uniqueStation(lineIndex, position);
+    }
+
+    private String uniqueStation(final int lineIndex, final int position) {
+        return (lineIndex + 1) + "호선" + position + "역";
+    }
+
+    private boolean isConnected(
+            final Set<List<String>> connectedPairs,
+            final List<String> stations,
+            final String station
+    ) {
+        return !stations.isEmpty() && connectedPairs.contains(toPair(stations.get(stations.size() - 1), station));
+    }
+
+    private List<String> toPair(final String station, final String otherStation) {
+        if (station.compareTo(otherStation) < 0) {
+            return List.of(station, otherStation);
+        }
+        return List.of(otherStation, station);
+    }
+
+    private List<Section> toSections(final Random random, final List<String> stations) {
+        final List<Section> sections = new ArrayList<>();
+        for (int index = 1; index < stations.size(); index++) {
+            sections.add(new Section(stations.get(index - 1), stations.get(index), distanceDistribution.next(random)));
+        }
+        return sections;
+    }
+
+    @FunctionalInterface
+    public interface DistanceDistribution {
+
+        int next(Random random);
+
+        static DistanceDistribution uniform(final int minimum, final int maximum) {
+            return random -> minimum + random.nextInt(maximum - minimum + 1);
+        }
+
+        static DistanceDistribution normal(final int mean, final int deviation) {
+            return random -> Math.max(1, (int) Math.round(mean + random.nextGaussian() * deviation));
+        }
+    }
+}
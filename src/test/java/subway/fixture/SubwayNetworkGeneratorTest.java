@@ -0,0 +1,100 @@
+package subway.fixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.domain.path.JgraphtPathFinder;
+import subway.fixture.SubwayNetworkGenerator.DistanceDistribution;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class SubwayNetworkGeneratorTest {
+
+    @Test
+    void 같은_시드로_생성하면_같은_노선도가_생성된다() {
+        // given
+        final SubwayNetworkGenerator generator = new SubwayNetworkGenerator(
+                7L, 10, 30, 0.3, DistanceDistribution.normal(5, 2)
+        );
+
+        // when
+        final List<Line> result = generator.generateLines();
+
+        // then
+        assertThat(result).usingRecursiveComparison().isEqualTo(generator.generateLines());
+    }
+
+    @Test
+    void 설정한_노선_수와_노선_길이대로_생성한다() {
+        // given
+        final SubwayNetworkGenerator generator = new SubwayNetworkGenerator(
+                1L, 20, 50, 0.2, DistanceDistribution.uniform(1, 10)
+        );
+
+        // when
+        final List<Line> result = generator.generateLines();
+
+        // then
+        assertAll(
+                () -> assertThat(result).hasSize(20),
+                () -> assertThat(result).allSatisfy(line -> assertThat(line.findAllStation()).hasSize(50)),
+                () -> assertThat(result).allSatisfy(line -> assertThat(line.getSections())
+                        .allSatisfy(section -> assertThat(section.getDistanceValue()).isBetween(1, 10)))
+        );
+    }
+
+    @Test
+    void 모든_노선이_환승역으로_연결되고_구간이_중복되지_않는다() {
+        // given
+        final SubwayNetworkGenerator generator = new SubwayNetworkGenerator(
+                3L, 30, 40, 0.1, DistanceDistribution.uniform(1, 10)
+        );
+
+        // when
+        final Subway result = generator.generate();
+
+        // then
+        final JgraphtPathFinder pathFinder = new JgraphtPathFinder(result);
+        final String firstStation = firstStationName(result.getLines().get(0));
+        assertAll(
+                () -> assertThat(result.getLines().subList(1, 30)).allSatisfy(line ->
+                        assertThat(pathFinder.find(firstStation, firstStationName(line))).isNotNull()),
+                () -> assertThat(stationPairs(result)).hasSize(30 * 39)
+        );
+    }
+
+    @Test
+    void 환승역_비율이_범위를_벗어나면_예외를_던진다() {
+        // expect
+        assertThatThrownBy(() -> new SubwayNetworkGenerator(1L, 1, 2, 1.5, DistanceDistribution.uniform(1, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("환승역 비율은 0 이상 1 이하여야 합니다.");
+    }
+
+    private String firstStationName(final Line line) {
+        return line.findAllStation().get(0).getName();
+    }
+
+    private Set<Set<Station>> stationPairs(final Subway subway) {
+        return subway.getLines().stream()
+                .flatMap(line -> line.getSections().stream())
+                .map(this::toPair)
+                .collect(Collectors.toSet());
+    }
+
+    private Set<Station> toPair(final Section section) {
+        return new HashSet<>(List.of(section.getStart(), section.getEnd()));
+    }
+}
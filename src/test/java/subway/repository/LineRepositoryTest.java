@@ -2,6 +2,8 @@ package subway.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static subway.domain.Direction.RIGHT;
 
 import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -10,20 +12,34 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
+import subway.domain.Distance;
 import subway.domain.Line;
 import subway.domain.Section;
+import subway.domain.SectionChanges;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.exception.DuplicateLineNameException;
+import subway.exception.LineConflictException;
 import subway.exception.LineNotFoundException;
+import subway.fixture.SubwayNetworkGenerator;
+import subway.fixture.SubwayNetworkGenerator.DistanceDistribution;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @SuppressWarnings("NonAsciiCharacters")
 @Transactional
 @SpringBootTest
+@RecordApplicationEvents
 class LineRepositoryTest {
 
     @Autowired
     private LineRepository lineRepository;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Nested
     class 성공_테스트 {
         @Test
@@ -116,6 +132,102 @@ class LineRepositoryTest {
             // then
             assertThat(result).usingRecursiveComparison().isEqualTo(line);
         }
+
+        @Test
+        void 이름으로_노선을_조회한다() {
+            // given
+            final Line line = new Line("2호선", "RED", List.of(
+                    new Section("B", "C", 3),
+                    new Section("A", "B", 2)
+            ));
+            lineRepository.save(line);
+            lineRepository.save(new Line("1호선", "BLUE", List.of(new Section("X", "Y", 2))));
+
+            // when
+            final Line result = lineRepository.findByName("2호선");
+
+            // then
+            assertThat(result).usingRecursiveComparison().isEqualTo(line);
+        }
+
+        @Test
+        void 이미_저장된_노선을_다시_저장해도_id가_유지된다() {
+            // given
+            final Line line = new Line("2호선", "RED", List.of(
+                    new Section("A", "B", 5),
+                    new Section("B", "C", 5)
+            ));
+            lineRepository.save(line);
+            final Long id = lineRepository.findIdByName("2호선");
+            line.add(new Station("A"), new Station("D"), new Distance(3), RIGHT);
+            line.remove(new Station("C"));
+
+            // when
+            lineRepository.save(line);
+
+            // then
+            assertAll(
+                    () -> assertThat(lineRepository.findIdByName("2호선")).isEqualTo(id),
+                    () -> assertThat(lineRepository.findById(id).getSections()).containsExactlyInAnyOrder(
+                            new Section("A", "D", 3),
+                            new Section("D", "B", 2)
+                    ),
+                    () -> assertThat(lineRepository.findById(id).findAllStation()).containsExactly(
+                            new Station("A"), new Station("D"), new Station("B")
+                    )
+            );
+        }
+
+        @Test
+        void 이미_저장된_노선을_다시_저장하면_실제로_바뀐_구간만_발행한다() {
+            // given
+            lineRepository.save(new Line("2호선", "RED", List.of(
+                    new Section("A", "B", 5),
+                    new Section("B", "C", 5),
+                    new Section("C", "D", 5)
+            )));
+            final Line line = new Line("2호선", "RED", List.of(
+                    new Section("A", "B", 5),
+                    new Section("B", "C", 3),
+                    new Section("C", "E", 4)
+            ));
+            applicationEvents.clear();
+
+            // when
+            lineRepository.save(line);
+
+            // then
+            final SectionChanges changes = applicationEvents.stream(SubwayChangedEvent.class)
+                    .findFirst()
+                    .orElseThrow()
+                    .getChanges();
+            assertAll(
+                    () -> assertThat(changes.getAddedSections()).containsExactlyInAnyOrder(
+                            new Section("B", "C", 3),
+                            new Section("C", "E", 4)
+                    ),
+                    () -> assertThat(changes.getRemovedSections()).containsExactlyInAnyOrder(
+                            new Section("B", "C", 5),
+                            new Section("C", "D", 5)
+                    )
+            );
+        }
+
+        @Test
+        void 생성한_지하철_노선도를_한번에_저장한다() {
+            // given
+            final SubwayNetworkGenerator generator = new SubwayNetworkGenerator(
+                    1L, 5, 20, 0.2, DistanceDistribution.uniform(1, 10)
+            );
+
+            // when
+            final Subway subway = generator.load(lineRepository);
+
+            // then
+            assertThat(lineRepository.findAll()).usingRecursiveComparison()
+                    .ignoringCollectionOrder()
+                    .isEqualTo(subway.getLines());
+        }
     }
 
     @Nested
@@ -144,6 +256,36 @@ class LineRepositoryTest {
                     .hasMessage("노선을 찾을 수 없습니다.");
         }
 
+        @Test
+        void 다른_노선의_이름으로_수정할_경우_예외를_던진다() {
+            // given
+            lineRepository.save(new Line("1호선", "RED", List.of(new Section("A", "B", 5))));
+            lineRepository.save(new Line("2호선", "BLUE", List.of(new Section("C", "D", 5))));
+            final Long id = lineRepository.findIdByName("2호선");
+
+            // expect
+            assertThatThrownBy(() -> lineRepository.updateNameAndColorById(id, "1호선", "BLUE"))
+                    .isInstanceOf(DuplicateLineNameException.class)
+                    .hasMessage("이미 존재하는 노선 이름입니다.");
+        }
+
+        @Test
+        void 다른_요청이_먼저_수정한_노선을_저장할_경우_예외를_던진다() {
+            // given
+            lineRepository.save(new Line("2호선", "RED", List.of(new Section("A", "B", 5))));
+            final Long id = lineRepository.findIdByName("2호선");
+            final Line line = lineRepository.findById(id);
+            final Line staleLine = lineRepository.findById(id);
+            line.add(new Station("B"), new Station("C"), new Distance(3), RIGHT);
+            lineRepository.save(line);
+            staleLine.add(new Station("A"), new Station("D"), new Distance(3), RIGHT);
+
+            // expect
+            assertThatThrownBy(() -> lineRepository.save(staleLine))
+                    .isInstanceOf(LineConflictException.class)
+                    .hasMessage("다른 요청이 노선을 먼저 수정했습니다. 다시 시도해주세요.");
+        }
+
         @Test
         void 존재하지_않는_노선_이름을_입력받아_조회할_경우_예외를_던진다() {
             // expect
@@ -0,0 +1,77 @@
+package subway.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import subway.dao.StationDao;
+import subway.domain.Station;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+@Transactional
+@SpringBootTest
+class StationRepositoryTest {
+
+    @Autowired
+    private StationRepository stationRepository;
+
+    @Autowired
+    private StationDao stationDao;
+
+    @Test
+    void 역을_저장하고_이름별_id를_반환한다() {
+        // given
+        final Map<String, Long> savedIds = stationRepository.saveAll(List.of(new Station("A")));
+
+        // when
+        final Map<String, Long> result = stationRepository.saveAll(List.of(new Station("A"), new Station("B")));
+
+        // then
+        assertAll(
+                () -> assertThat(result).containsEntry("A", savedIds.get("A")).containsKey("B"),
+                () -> assertThat(stationDao.findAll()).hasSize(2)
+        );
+    }
+
+    @Test
+    void id가_있는_역은_저장된_id를_그대로_사용한다() {
+        // given
+        final Map<String, Long> savedIds = stationRepository.saveAll(List.of(new Station("A")));
+        final Station stationA = stationRepository.findAllById(savedIds.values()).get(savedIds.get("A"));
+
+        // when
+        final Map<String, Long> result = stationRepository.saveAll(List.of(stationA, new Station("B")));
+
+        // then
+        assertAll(
+                () -> assertThat(result).containsEntry("A", savedIds.get("A")).containsKey("B"),
+                () -> assertThat(stationDao.findAll()).hasSize(2)
+        );
+    }
+
+    @Test
+    void id_목록으로_역을_조회한다() {
+        // given
+        final Map<String, Long> savedIds = stationRepository.saveAll(List.of(new Station("A"), new Station("B")));
+
+        // when
+        final Map<Long, Station> result = stationRepository.findAllById(savedIds.values());
+
+        // then
+        final Station stationB = result.get(savedIds.get("B"));
+        assertAll(
+                () -> assertThat(result.get(savedIds.get("A"))).isEqualTo(new Station("A")),
+                () -> assertThat(stationB.getId()).isEqualTo(savedIds.get("B")),
+                () -> assertThat(stationRepository.findAllById(List.of(savedIds.get("B"))).get(savedIds.get("B")))
+                        .isSameAs(stationB)
+        );
+    }
+}
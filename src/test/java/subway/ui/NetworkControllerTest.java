@@ -0,0 +1,201 @@
+package subway.ui;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.IntegrationTest;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.repository.LineRepository;
+
+@SuppressWarnings("NonAsciiCharacters")
+public class NetworkControllerTest extends IntegrationTest {
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Nested
+    class 성공_테스트 {
+
+        @Test
+        void CSV_노선도를_가져온다() {
+            // given
+            final String body = String.join("\n",
+                    "line,color,start,end,distance",
+                    "1호선,RED,A,B,2",
+                    "1호선,RED,B,C,3",
+                    "2호선,BLUE,,,"
+            );
+
+            // when
+            final ExtractableResponse<Response> response = RestAssured
+                    .given().log().all()
+                    .contentType("text/csv")
+                    .body(body)
+                    .when().post("/network/import")
+                    .then().log().all()
+                    .extract();
+
+            // then
+            assertAll(
+                    () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                    () -> assertThat(response.body().jsonPath().getInt("lines")).isEqualTo(2),
+                    () -> assertThat(response.body().jsonPath().getInt("stations")).isEqualTo(3),
+                    () -> assertThat(response.body().jsonPath().getInt("sections")).isEqualTo(2),
+                    () -> assertThat(lineRepository.findAll()).flatExtracting(Line::getSections).containsExactlyInAnyOrder(
+                            new Section("A", "B", 2),
+                            new Section("B", "C", 3)
+                    )
+            );
+        }
+
+        @Test
+        void 압축된_NDJSON_노선도를_가져온다() throws IOException {
+            // given
+            final String body = String.join("\n",
+                    "{\"line\":\"1호선\",\"color\":\"RED\",\"start\":\"A\",\"end\":\"B\",\"distance\":2}",
+                    "{\"line\":\"1호선\",\"color\":\"RED\",\"start\":\"B\",\"end\":\"C\",\"distance\":3}"
+            );
+
+            // when
+            final ExtractableResponse<Response> response = RestAssured
+                    .given().log().all()
+                    .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzip(body))
+                    .when().post("/network/import")
+                    .then().log().all()
+                    .extract();
+
+            // then
+            assertAll(
+                    () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                    () -> assertThat(lineRepository.findAll()).flatExtracting(Line::getSections).containsExactlyInAnyOrder(
+                            new Section("A", "B", 2),
+                            new Section("B", "C", 3)
+                    )
+            );
+        }
+
+        @Test
+        void 노선도를_NDJSON으로_내보낸다() {
+            // given
+            lineRepository.save(new Line("1호선", "RED", List.of(
+                    new Section("A", "B", 2)
+            )));
+            lineRepository.save(new Line("2호선", "BLUE", Collections.emptyList()));
+
+            // when
+            final ExtractableResponse<Response> response = RestAssured
+                    .given().log().all()
+                    .when().get("/network/export")
+                    .then().log().all()
+                    .extract();
+
+            // then
+            assertAll(
+                    () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                    () -> assertThat(response.contentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE),
+                    () -> assertThat(response.asString().lines()).containsExactlyInAnyOrder(
+                            "{\"line\":\"1호선\",\"color\":\"RED\",\"start\":\"A\",\"end\":\"B\",\"distance\":2}",
+                            "{\"line\":\"2호선\",\"color\":\"BLUE\"}"
+                    )
+            );
+        }
+
+        @Test
+        void 압축해서_내보낸_CSV_노선도를_다시_가져올_수_있다() {
+            // given
+            lineRepository.save(new Line("1호선", "RED", List.of(
+                    new Section("A", "B", 2),
+                    new Section("B", "C", 3)
+            )));
+            lineRepository.save(new Line("2호선", "BLUE", List.of(
+                    new Section("Z", "B", 4)
+            )));
+            final ExtractableResponse<Response> exported = RestAssured
+                    .given().log().all()
+                    .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                    .queryParam("format", "CSV")
+                    .when().get("/network/export")
+                    .then().log().all()
+                    .extract();
+            for (Line line : lineRepository.findAll()) {
+                lineRepository.deleteById(lineRepository.findIdByName(line.getName()));
+            }
+
+            // when
+            final ExtractableResponse<Response> response = RestAssured
+                    .given().log().all()
+                    .contentType("text/csv")
+                    .body(exported.asString())
+                    .when().post("/network/import")
+                    .then().log().all()
+                    .extract();
+
+            // then
+            assertAll(
+                    () -> assertThat(exported.header(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip"),
+                    () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                    () -> assertThat(lineRepository.findAll()).flatExtracting(Line::getSections).containsExactlyInAnyOrder(
+                            new Section("A", "B", 2),
+                            new Section("B", "C", 3),
+                            new Section("Z", "B", 4)
+                    )
+            );
+        }
+
+        private byte[] gzip(final String body) throws IOException {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                gzipOutputStream.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    @Nested
+    class 예외_테스트 {
+
+        @Test
+        void 형식이_올바르지_않은_행이_있으면_예외가_발생한다() {
+            // given
+            final String body = String.join("\n",
+                    "1호선,RED,A,B,2",
+                    "1호선,RED,B"
+            );
+
+            // when
+            final ExtractableResponse<Response> response = RestAssured
+                    .given().log().all()
+                    .contentType("text/csv")
+                    .body(body)
+                    .when().post("/network/import")
+                    .then().log().all()
+                    .extract();
+
+            // then
+            assertAll(
+                    () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+                    () -> assertThat(response.body().jsonPath().getObject("message", String.class))
+                            .isEqualTo("가져올 노선도의 형식이 올바르지 않습니다: 1호선,RED,B"),
+                    () -> assertThat(lineRepository.findAll()).isEmpty()
+            );
+        }
+    }
+}
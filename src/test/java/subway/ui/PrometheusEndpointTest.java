@@ -0,0 +1,68 @@
+package subway.ui;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.http.HttpStatus;
+import subway.IntegrationTest;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.repository.LineRepository;
+
+@AutoConfigureMetrics
+@SuppressWarnings("NonAsciiCharacters")
+class PrometheusEndpointTest extends IntegrationTest {
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Test
+    void 요청_경로_탐색_DAO_캐시_지표를_프로메테우스_형식으로_노출한다() {
+        // given
+        lineRepository.save(new Line("1호선", "RED",
+                List.of(
+                        new Section("A", "B", 2),
+                        new Section("B", "C", 3)
+                )
+        ));
+        RestAssured
+                .given().log().all()
+                .param("startStationName", "A")
+                .param("endStationName", "C")
+                .when().get("/path")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value());
+
+        // when
+        final ExtractableResponse<Response> response = RestAssured
+                .given()
+                .when().get("/actuator/prometheus")
+                .then()
+                .extract();
+
+        // then
+        final List<String> lines = List.of(response.asString().split("\n"));
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(lines).anyMatch(line ->
+                        line.startsWith("http_server_requests_seconds_bucket") && line.contains("uri=\"/path\"")),
+                () -> assertThat(lines).anyMatch(line -> line.startsWith("subway_path_search_seconds_bucket")),
+                () -> assertThat(lines).anyMatch(line -> line.startsWith("subway_path_search_visited_stations_count")),
+                () -> assertThat(lines).anyMatch(line -> line.startsWith("subway_path_graph_build_seconds_count")),
+                () -> assertThat(lines).anyMatch(line ->
+                        line.startsWith("subway_dao_query_seconds_count") && line.contains("dao=\"LineDao\"")),
+                () -> assertThat(lines).anyMatch(line ->
+                        line.startsWith("subway_dao_rows_count") && line.contains("dao=\"SectionDao\"")),
+                () -> assertThat(lines).anyMatch(line ->
+                        line.startsWith("subway_path_cache_gets_total") && line.contains("result=\"miss\"")),
+                () -> assertThat(lines).anyMatch(line -> line.startsWith("subway_path_cache_hit_ratio"))
+        );
+    }
+}